@@ -0,0 +1,76 @@
+package dev.petshopsoftware.utilities.Database.Mongo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class BulkResult {
+	private final Status[] statuses;
+	private final String[] errors;
+
+	protected BulkResult(int size) {
+		this.statuses = new Status[size];
+		this.errors = new String[size];
+		Arrays.fill(statuses, Status.SKIPPED);
+	}
+
+	protected void set(int index, Status status, String error) {
+		statuses[index] = status;
+		errors[index] = error;
+	}
+
+	public int size() {
+		return statuses.length;
+	}
+
+	public Status getStatus(int index) {
+		return statuses[index];
+	}
+
+	public String getError(int index) {
+		return errors[index];
+	}
+
+	public int count(Status status) {
+		int count = 0;
+		for (Status candidate : statuses)
+			if (candidate == status) count++;
+		return count;
+	}
+
+	public List<Integer> getFailed() {
+		List<Integer> failed = new ArrayList<>();
+		for (int i = 0; i < statuses.length; i++)
+			if (!isSuccessful(statuses[i])) failed.add(i);
+		return failed;
+	}
+
+	public boolean isSuccessful() {
+		for (Status status : statuses)
+			if (!isSuccessful(status)) return false;
+		return true;
+	}
+
+	private static boolean isSuccessful(Status status) {
+		return status != Status.NOT_FOUND && status != Status.AMBIGUOUS && status != Status.FAILED && status != Status.SKIPPED;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("BulkResult{size=").append(statuses.length);
+		for (Status status : Status.values())
+			builder.append(", ").append(status.name().toLowerCase()).append("=").append(count(status));
+		return builder.append("}").toString();
+	}
+
+	public enum Status {
+		INSERTED,
+		UPDATED,
+		UNCHANGED,
+		DELETED,
+		NOT_FOUND,
+		AMBIGUOUS,
+		FAILED,
+		SKIPPED
+	}
+}
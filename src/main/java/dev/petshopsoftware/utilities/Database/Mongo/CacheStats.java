@@ -0,0 +1,91 @@
+package dev.petshopsoftware.utilities.Database.Mongo;
+
+public class CacheStats {
+	private final long hits;
+	private final long misses;
+	private final long loads;
+	private final long loadFailures;
+	private final long totalLoadTime;
+	private final long sizeEvictions;
+	private final long expiryEvictions;
+	private final long removals;
+	private final long size;
+
+	public CacheStats(long hits, long misses, long loads, long loadFailures, long totalLoadTime, long sizeEvictions, long expiryEvictions, long removals, long size) {
+		this.hits = hits;
+		this.misses = misses;
+		this.loads = loads;
+		this.loadFailures = loadFailures;
+		this.totalLoadTime = totalLoadTime;
+		this.sizeEvictions = sizeEvictions;
+		this.expiryEvictions = expiryEvictions;
+		this.removals = removals;
+		this.size = size;
+	}
+
+	public CacheStats plus(CacheStats other) {
+		return new CacheStats(hits + other.hits, misses + other.misses, loads + other.loads, loadFailures + other.loadFailures,
+				totalLoadTime + other.totalLoadTime, sizeEvictions + other.sizeEvictions, expiryEvictions + other.expiryEvictions,
+				removals + other.removals, size + other.size);
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public long getRequests() {
+		return hits + misses;
+	}
+
+	public double getHitRate() {
+		long requests = getRequests();
+		return requests == 0 ? 1 : (double) hits / requests;
+	}
+
+	public long getLoads() {
+		return loads;
+	}
+
+	public long getLoadFailures() {
+		return loadFailures;
+	}
+
+	public long getTotalLoadTime() {
+		return totalLoadTime;
+	}
+
+	public double getAverageLoadTime() {
+		return loads == 0 ? 0 : (double) totalLoadTime / loads;
+	}
+
+	public long getSizeEvictions() {
+		return sizeEvictions;
+	}
+
+	public long getExpiryEvictions() {
+		return expiryEvictions;
+	}
+
+	public long getEvictions() {
+		return sizeEvictions + expiryEvictions;
+	}
+
+	public long getRemovals() {
+		return removals;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats{hits=" + hits + ", misses=" + misses + ", hitRate=" + String.format("%.4f", getHitRate()) +
+				", loads=" + loads + ", loadFailures=" + loadFailures + ", averageLoadTime=" + String.format("%.0f", getAverageLoadTime()) + "ns" +
+				", sizeEvictions=" + sizeEvictions + ", expiryEvictions=" + expiryEvictions + ", removals=" + removals + ", size=" + size + "}";
+	}
+}
@@ -0,0 +1,109 @@
+package dev.petshopsoftware.utilities.Database.Mongo;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import dev.petshopsoftware.utilities.JSON.JSON;
+import org.bson.Document;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class DocumentSnapshot {
+	private static final long MAX_ISO_DATE = 253402300799999L;
+	private static final Map<Class<?>, Boolean> SUPPORTED = new ConcurrentHashMap<>();
+
+	private final Document document;
+	private final TokenBuffer tokens;
+
+	private DocumentSnapshot(Document document, TokenBuffer tokens) {
+		this.document = document;
+		this.tokens = tokens;
+	}
+
+	public static DocumentSnapshot of(Document document) {
+		TokenBuffer tokens = new TokenBuffer(JSON.MAPPER, false);
+		try {
+			write(tokens, document);
+			tokens.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new DocumentSnapshot(document, tokens);
+	}
+
+	public static boolean supports(Class<?> clazz) {
+		return SUPPORTED.computeIfAbsent(clazz, key -> {
+			try {
+				return key.getMethod("fromDocument", Document.class).getDeclaringClass() == IMongoDocument.class;
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		});
+	}
+
+	public Document getDocument() {
+		return document;
+	}
+
+	public JsonParser asParser() {
+		return tokens.asParser(JSON.MAPPER);
+	}
+
+	public <T> T readInto(Object object) {
+		try (JsonParser parser = asParser()) {
+			return JSON.MAPPER.readerForUpdating(object).readValue(parser);
+		} catch (IOException e) {
+			throw new IllegalArgumentException(e);
+		}
+	}
+
+	static void write(JsonGenerator generator, Object value) throws IOException {
+		if (value == null) generator.writeNull();
+		else if (value instanceof String) generator.writeString((String) value);
+		else if (value instanceof Integer) generator.writeNumber((Integer) value);
+		else if (value instanceof Long) generator.writeNumber((Long) value);
+		else if (value instanceof Boolean) generator.writeBoolean((Boolean) value);
+		else if (value instanceof Double) {
+			double number = (Double) value;
+			if (Double.isNaN(number) || Double.isInfinite(number))
+				writeWrapped(generator, "$numberDouble", Double.isNaN(number) ? "NaN" : number > 0 ? "Infinity" : "-Infinity");
+			else generator.writeNumber(number);
+		} else if (value instanceof Map) {
+			generator.writeStartObject();
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				write(generator, entry.getValue());
+			}
+			generator.writeEndObject();
+		} else if (value instanceof Iterable) {
+			generator.writeStartArray();
+			for (Object element : (Iterable<?>) value)
+				write(generator, element);
+			generator.writeEndArray();
+		} else if (value instanceof ObjectId) writeWrapped(generator, "$oid", ((ObjectId) value).toHexString());
+		else if (value instanceof Date) {
+			long time = ((Date) value).getTime();
+			if (time < 0 || time > MAX_ISO_DATE) {
+				generator.writeStartObject();
+				generator.writeFieldName("$date");
+				writeWrapped(generator, "$numberLong", Long.toString(time));
+				generator.writeEndObject();
+			} else writeWrapped(generator, "$date", DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(time)));
+		} else if (value instanceof Decimal128) writeWrapped(generator, "$numberDecimal", value.toString());
+		else generator.writeTree(JSON.MAPPER.readTree(new Document("value", value).toJson()).get("value"));
+	}
+
+	private static void writeWrapped(JsonGenerator generator, String name, String value) throws IOException {
+		generator.writeStartObject();
+		generator.writeStringField(name, value);
+		generator.writeEndObject();
+	}
+}
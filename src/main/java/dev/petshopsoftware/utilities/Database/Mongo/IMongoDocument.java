@@ -3,8 +3,9 @@ package dev.petshopsoftware.utilities.Database.Mongo;
 import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.result.DeleteResult;
-import com.mongodb.client.result.InsertOneResult;
+import com.mongodb.client.result.UpdateResult;
 import dev.petshopsoftware.utilities.Database.DocumentReadException;
 import dev.petshopsoftware.utilities.Database.DocumentWriteException;
 import dev.petshopsoftware.utilities.JSON.JSON;
@@ -17,17 +18,16 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public interface IMongoDocument extends JSON {
 	boolean DEFAULT_CACHED = true;
 
 	default Document toDocument() {
-		return Document.parse(toJSON().toString());
+		return MongoDocumentCodec.of(getClass()).toDocument(this);
 	}
 
 	default <T extends IMongoDocument> T fromDocument(Document document) {
-		return fromString(document.toJson());
+		return MongoDocumentCodec.of(getClass()).fromDocument(this, document);
 	}
 
 	default MongoInfo getMongoInfo() {
@@ -41,24 +41,20 @@ public interface IMongoDocument extends JSON {
 		String identifierField = getMongoInfo().identifier();
 		Document document = toDocument();
 		String id = document.get(identifierField).toString();
-		AtomicBoolean saveError = new AtomicBoolean(false);
 		MongoCollection<Document> collection = mongoConnection.getCollection(getClass());
 		Bson filter = Filters.eq(identifierField, id);
 		if (mongoConnection.isCached(collection)) {
 			MongoCache cache = MongoCache.getCache(collection);
 			cache.put(filter.toString(), document);
 		}
-		Document replaceResult = collection.findOneAndReplace(filter, document);
-		if (replaceResult == null) {
-			InsertOneResult insertResult;
-			try {
-				insertResult = collection.insertOne(document);
-			} catch (RuntimeException e) {
-				throw new DocumentWriteException(e.getMessage());
-			}
-			if (insertResult.getInsertedId() == null)
-				throw new DocumentWriteException("Failed saving " + getClass().getSimpleName() + " to database.");
+		UpdateResult result;
+		try {
+			result = collection.replaceOne(filter, document, new ReplaceOptions().upsert(true));
+		} catch (RuntimeException e) {
+			throw new DocumentWriteException(e.getMessage());
 		}
+		if (result.wasAcknowledged() && result.getMatchedCount() == 0 && result.getUpsertedId() == null)
+			throw new DocumentWriteException("Failed saving " + getClass().getSimpleName() + " to database.");
 	}
 
 	default void save() throws DocumentWriteException {
@@ -67,17 +63,18 @@ public interface IMongoDocument extends JSON {
 
 	default <T extends IMongoDocument> T load(MongoConnection mongoConnection, Bson filter, boolean cached) throws DocumentReadException {
 		MongoCollection<Document> collection = mongoConnection.getCollection(getClass());
-		Document result = null;
+		Document result;
 		if (mongoConnection.isCached(collection) && cached) {
 			MongoCache cache = MongoCache.getCache(collection);
-			String key = filter.toString();
-			result = cache.get(key);
-		}
-		if (result == null) {
+			if (cache.isSnapshots() && DocumentSnapshot.supports(getClass())) {
+				DocumentSnapshot snapshot = cache.getSnapshot(filter.toString(), key -> collection.find(filter).first());
+				if (snapshot != null)
+					return snapshot.readInto(this);
+				throw new DocumentReadException("Failed loading " + getClass().getSimpleName() + " from database.");
+			}
+			result = cache.get(filter.toString(), key -> collection.find(filter).first());
+		} else
 			result = collection.find(filter).first();
-			if (mongoConnection.isCached(collection) && cached && result != null)
-				MongoCache.getCache(collection).put(filter.toString(), result);
-		}
 		if (result != null)
 			return fromDocument(result);
 		throw new DocumentReadException("Failed loading " + getClass().getSimpleName() + " from database.");
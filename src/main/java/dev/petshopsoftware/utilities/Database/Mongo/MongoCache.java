@@ -5,20 +5,40 @@ import dev.petshopsoftware.utilities.Logging.Level;
 import dev.petshopsoftware.utilities.Logging.Logger;
 import org.bson.Document;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
-import java.util.concurrent.*;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 public class MongoCache {
 	public static final long DEFAULT_DURATION = 5;
 	public static final TimeUnit DEFAULT_UNIT = TimeUnit.SECONDS;
-	private static final Map<String, MongoCache> CACHES = new HashMap<>();
+	public static final int DEFAULT_MAX_ENTRIES = 10_000;
+	private static final int SWEEP_BATCH = 4;
+	private static final Map<String, MongoCache> CACHES = new ConcurrentHashMap<>();
 
-	private final ConcurrentMap<String, Document> cacheMap = new ConcurrentHashMap<>();
-	private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor();
+	private final ConcurrentHashMap<String, Entry> cacheMap = new ConcurrentHashMap<>();
+	private final ReentrantLock policyLock = new ReentrantLock();
+	private final Segment probation = new Segment();
+	private final Segment protectedSegment = new Segment();
 	private final Logger logger;
-	private long duration;
-	private TimeUnit unit;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder loads = new LongAdder();
+	private final LongAdder loadFailures = new LongAdder();
+	private final LongAdder loadTime = new LongAdder();
+	private final LongAdder sizeEvictions = new LongAdder();
+	private final LongAdder expiryEvictions = new LongAdder();
+	private final LongAdder removals = new LongAdder();
+	private volatile long duration;
+	private volatile TimeUnit unit;
+	private volatile int maxEntries = DEFAULT_MAX_ENTRIES;
+	private volatile boolean snapshots = true;
 
 	protected MongoCache(MongoCollection<Document> collection, long duration, TimeUnit unit) {
 		String id = collection.getNamespace().getFullName();
@@ -26,9 +46,8 @@ public class MongoCache {
 		this.unit = unit;
 		this.logger = Logger.get("cache-" + id);
 		this.logger.setLevel(Level.INFO);
-		Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
-		CACHES.put(id, this);
-		logger.info("Cache initialized successfully for collection " + id + ".");
+		if (CACHES.putIfAbsent(id, this) == null)
+			logger.info("Cache initialized successfully for collection " + id + ".");
 	}
 
 	protected MongoCache(MongoCollection<Document> collection) {
@@ -36,9 +55,44 @@ public class MongoCache {
 	}
 
 	public static MongoCache getCache(MongoCollection<Document> collection) {
-		MongoCache cache = CACHES.get(collection.getNamespace().getFullName());
-		if (cache == null) return new MongoCache(collection);
-		return cache;
+		String id = collection.getNamespace().getFullName();
+		MongoCache cache = CACHES.get(id);
+		if (cache != null) return cache;
+		new MongoCache(collection);
+		return CACHES.get(id);
+	}
+
+	public static Collection<MongoCache> getCaches() {
+		return Collections.unmodifiableCollection(CACHES.values());
+	}
+
+	public static Map<String, CacheStats> getAllStats() {
+		Map<String, CacheStats> stats = new TreeMap<>();
+		CACHES.forEach((id, cache) -> stats.put(id, cache.stats()));
+		return stats;
+	}
+
+	public static CacheStats getAggregateStats() {
+		CacheStats total = new CacheStats(0, 0, 0, 0, 0, 0, 0, 0, 0);
+		for (MongoCache cache : CACHES.values())
+			total = total.plus(cache.stats());
+		return total;
+	}
+
+	public CacheStats stats() {
+		return new CacheStats(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(), loadTime.sum(),
+				sizeEvictions.sum(), expiryEvictions.sum(), removals.sum(), cacheMap.size());
+	}
+
+	public void resetStats() {
+		hits.reset();
+		misses.reset();
+		loads.reset();
+		loadFailures.reset();
+		loadTime.reset();
+		sizeEvictions.reset();
+		expiryEvictions.reset();
+		removals.reset();
 	}
 
 	public long getDuration() {
@@ -57,20 +111,39 @@ public class MongoCache {
 		this.unit = unit;
 	}
 
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public void setMaxEntries(int maxEntries) {
+		if (maxEntries <= 0) throw new IllegalArgumentException("Max entries must be positive.");
+		this.maxEntries = maxEntries;
+		policyLock.lock();
+		try {
+			evict();
+		} finally {
+			policyLock.unlock();
+		}
+	}
+
+	public boolean isSnapshots() {
+		return snapshots;
+	}
+
+	public void setSnapshots(boolean snapshots) {
+		this.snapshots = snapshots;
+	}
+
+	public int size() {
+		return cacheMap.size();
+	}
+
 	public Logger getLogger() {
 		return logger;
 	}
 
 	public void put(String key, Document value, long duration, TimeUnit unit) {
-		if (cacheMap.containsKey(key))
-			logger.debug("Updated value for key " + key + ".");
-		else
-			logger.debug("Cached value for key " + key + ".");
-		cacheMap.put(key, value);
-		cleaner.schedule(() -> {
-			cacheMap.remove(key);
-			logger.debug("Cleaned value for key " + key + ".");
-		}, duration, unit);
+		store(key, value, duration, unit);
 	}
 
 	public void put(String key, Document value) {
@@ -78,21 +151,238 @@ public class MongoCache {
 	}
 
 	public Document get(String key) {
-		Document document = cacheMap.get(key);
-		if (document != null)
-			logger.debug("Retrieved value for key " + key + ".");
-		else
-			logger.debug("Value not found for key " + key + ".");
-		return cacheMap.get(key);
+		Entry entry = lookup(key);
+		return entry == null ? null : entry.value;
+	}
+
+	public Document get(String key, Function<String, Document> loader) {
+		Entry entry = lookup(key);
+		if (entry != null) return entry.value;
+		Document value = load(key, loader);
+		if (value != null) put(key, value);
+		return value;
+	}
+
+	public DocumentSnapshot getSnapshot(String key, Function<String, Document> loader) {
+		Entry entry = lookup(key);
+		if (entry == null) {
+			Document value = load(key, loader);
+			if (value == null) return null;
+			entry = store(key, value, this.duration, this.unit);
+		}
+		return entry.snapshot();
 	}
 
 	public Document remove(String key) {
-		logger.debug("Removed value for key " + key + ".");
-		return cacheMap.remove(key);
+		policyLock.lock();
+		try {
+			Entry entry = cacheMap.get(key);
+			if (entry == null) return null;
+			unlink(entry);
+			removals.increment();
+			return entry.expiresAt - System.nanoTime() > 0 ? entry.value : null;
+		} finally {
+			policyLock.unlock();
+		}
+	}
+
+	private Entry store(String key, Document value, long duration, TimeUnit unit) {
+		long now = System.nanoTime();
+		long expiresAt = now + unit.toNanos(duration);
+		policyLock.lock();
+		try {
+			Entry entry = cacheMap.get(key);
+			if (entry != null) {
+				entry.value = value;
+				entry.expiresAt = expiresAt;
+				onAccess(entry);
+			} else {
+				entry = new Entry(key, value, expiresAt);
+				cacheMap.put(key, entry);
+				probation.addFirst(entry);
+			}
+			sweep(now);
+			evict();
+			return entry;
+		} finally {
+			policyLock.unlock();
+		}
+	}
+
+	private Entry lookup(String key) {
+		Entry entry = cacheMap.get(key);
+		if (entry == null) {
+			misses.increment();
+			return null;
+		}
+		long now = System.nanoTime();
+		if (entry.expiresAt - now <= 0) {
+			policyLock.lock();
+			try {
+				if (cacheMap.get(key) == entry && entry.expiresAt - now <= 0) {
+					unlink(entry);
+					expiryEvictions.increment();
+				}
+			} finally {
+				policyLock.unlock();
+			}
+			misses.increment();
+			return null;
+		}
+		hits.increment();
+		if (policyLock.tryLock())
+			try {
+				if (cacheMap.get(key) == entry) onAccess(entry);
+			} finally {
+				policyLock.unlock();
+			}
+		return entry;
+	}
+
+	private Document load(String key, Function<String, Document> loader) {
+		long start = System.nanoTime();
+		Document value;
+		try {
+			value = loader.apply(key);
+		} catch (RuntimeException e) {
+			loadFailures.increment();
+			throw e;
+		} finally {
+			loads.increment();
+			loadTime.add(System.nanoTime() - start);
+		}
+		if (value == null) loadFailures.increment();
+		return value;
+	}
+
+	public void clear() {
+		policyLock.lock();
+		try {
+			cacheMap.clear();
+			probation.clear();
+			protectedSegment.clear();
+		} finally {
+			policyLock.unlock();
+		}
 	}
 
 	public void shutdown() {
-		cleaner.shutdown();
+		clear();
 		logger.info("Cache shutdown successfully.");
 	}
+
+	private void onAccess(Entry entry) {
+		if (entry.segment == protectedSegment) {
+			protectedSegment.moveToFirst(entry);
+			return;
+		}
+		probation.remove(entry);
+		protectedSegment.addFirst(entry);
+		int protectedLimit = Math.max(1, maxEntries - maxEntries / 5);
+		while (protectedSegment.size > protectedLimit) {
+			Entry demoted = protectedSegment.last();
+			protectedSegment.remove(demoted);
+			probation.addFirst(demoted);
+		}
+	}
+
+	private void evict() {
+		while (cacheMap.size() > maxEntries) {
+			Entry victim = probation.last() != null ? probation.last() : protectedSegment.last();
+			if (victim == null) return;
+			unlink(victim);
+			sizeEvictions.increment();
+		}
+	}
+
+	private void sweep(long now) {
+		sweep(probation, now);
+		sweep(protectedSegment, now);
+	}
+
+	private void sweep(Segment segment, long now) {
+		Entry entry = segment.last();
+		for (int i = 0; i < SWEEP_BATCH && entry != null; i++) {
+			Entry previous = entry.previous;
+			if (entry.expiresAt - now <= 0) {
+				unlink(entry);
+				expiryEvictions.increment();
+			}
+			entry = previous;
+		}
+	}
+
+	private void unlink(Entry entry) {
+		cacheMap.remove(entry.key, entry);
+		if (entry.segment != null) entry.segment.remove(entry);
+	}
+
+	private static class Entry {
+		private final String key;
+		private volatile Document value;
+		private volatile long expiresAt;
+		private volatile DocumentSnapshot snapshot;
+		private Segment segment;
+		private Entry previous;
+		private Entry next;
+
+		private Entry(String key, Document value, long expiresAt) {
+			this.key = key;
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		private DocumentSnapshot snapshot() {
+			Document value = this.value;
+			DocumentSnapshot snapshot = this.snapshot;
+			if (snapshot == null || snapshot.getDocument() != value) {
+				snapshot = DocumentSnapshot.of(value);
+				this.snapshot = snapshot;
+			}
+			return snapshot;
+		}
+	}
+
+	private static class Segment {
+		private Entry head;
+		private Entry tail;
+		private int size;
+
+		private void addFirst(Entry entry) {
+			entry.segment = this;
+			entry.previous = null;
+			entry.next = head;
+			if (head != null) head.previous = entry;
+			head = entry;
+			if (tail == null) tail = entry;
+			size++;
+		}
+
+		private void remove(Entry entry) {
+			if (entry.previous != null) entry.previous.next = entry.next;
+			else head = entry.next;
+			if (entry.next != null) entry.next.previous = entry.previous;
+			else tail = entry.previous;
+			entry.previous = null;
+			entry.next = null;
+			entry.segment = null;
+			size--;
+		}
+
+		private void moveToFirst(Entry entry) {
+			if (head == entry) return;
+			remove(entry);
+			addFirst(entry);
+		}
+
+		private Entry last() {
+			return tail;
+		}
+
+		private void clear() {
+			head = null;
+			tail = null;
+			size = 0;
+		}
+	}
 }
@@ -1,13 +1,15 @@
 package dev.petshopsoftware.utilities.Database.Mongo;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
-import com.mongodb.client.model.Filters;
-import com.mongodb.client.model.IndexOptions;
-import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.*;
 import dev.petshopsoftware.utilities.Logging.LogMessage;
 import dev.petshopsoftware.utilities.Logging.Logger;
 import org.bson.Document;
@@ -18,9 +20,11 @@ import org.bson.conversions.Bson;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.logging.Level;
 
 public class MongoConnection {
+	public static final int DEFAULT_BULK_SIZE = 1000;
 	protected static final Set<String> indexedCollections = new LinkedHashSet<>();
 	protected static MongoConnection INSTANCE = null;
 
@@ -33,6 +37,7 @@ public class MongoConnection {
 	private final MongoClient client;
 	private final Map<String, Boolean> cachedMap = new HashMap<>();
 	private boolean databaseCached = true;
+	private int bulkSize = DEFAULT_BULK_SIZE;
 	private MongoDatabase database;
 
 	public MongoConnection(MongoClient client, String databaseName) {
@@ -40,7 +45,7 @@ public class MongoConnection {
 		this.client = client;
 		if (databaseName != null) {
 			CodecRegistry defaultCodecRegistry = MongoClientSettings.getDefaultCodecRegistry();
-			CodecRegistry fromProvider = CodecRegistries.fromProviders(PojoCodecProvider.builder().automatic(true).build());
+			CodecRegistry fromProvider = CodecRegistries.fromProviders(new MongoDocumentCodecProvider(), PojoCodecProvider.builder().automatic(true).build());
 			CodecRegistry pojoCodecRegistry = CodecRegistries.fromRegistries(defaultCodecRegistry, fromProvider);
 			this.database = client.getDatabase(databaseName).withCodecRegistry(pojoCodecRegistry);
 		}
@@ -86,6 +91,15 @@ public class MongoConnection {
 		this.databaseCached = databaseCached;
 	}
 
+	public int getBulkSize() {
+		return bulkSize;
+	}
+
+	public void setBulkSize(int bulkSize) {
+		if (bulkSize <= 0) throw new IllegalArgumentException("Bulk size must be positive.");
+		this.bulkSize = bulkSize;
+	}
+
 	public MongoCollection<Document> getCollection(String name) {
 		return database.getCollection(name);
 	}
@@ -109,6 +123,170 @@ public class MongoConnection {
 		return isCached(getCollection(clazz));
 	}
 
+	public BulkResult saveAll(List<? extends IMongoDocument> documents, boolean ordered) {
+		return bulkWrite(documents, ordered, document -> {
+			String identifierField = document.getMongoInfo().identifier();
+			Document value = document.toDocument();
+			Bson filter = Filters.eq(identifierField, value.get(identifierField).toString());
+			return new BulkWrite(filter, new ReplaceOneModel<>(filter, value, new ReplaceOptions().upsert(true)), value, BulkResult.Status.UPDATED);
+		});
+	}
+
+	public BulkResult saveAll(List<? extends IMongoDocument> documents) {
+		return saveAll(documents, true);
+	}
+
+	public BulkResult updateAll(List<? extends MongoDocument> documents, boolean ordered) {
+		return bulkWrite(documents, ordered, document -> {
+			String identifierField = document.getMongoInfo().identifier();
+			Document value = document.toDocument();
+			if (document.getInitialDocument() == null) {
+				Bson filter = Filters.eq(identifierField, value.get(identifierField).toString());
+				return new BulkWrite(filter, new ReplaceOneModel<>(filter, value, new ReplaceOptions().upsert(true)), value, BulkResult.Status.UPDATED);
+			}
+			Bson filter = Filters.eq(identifierField, value.get(identifierField));
+			Bson changes = document.changes(value);
+			if (changes == null) return new BulkWrite(filter, null, value, BulkResult.Status.UNCHANGED);
+			return new BulkWrite(filter, new UpdateOneModel<>(filter, changes), value, BulkResult.Status.UPDATED);
+		});
+	}
+
+	public BulkResult updateAll(List<? extends MongoDocument> documents) {
+		return updateAll(documents, true);
+	}
+
+	public BulkResult deleteAll(List<? extends IMongoDocument> documents, boolean ordered) {
+		return bulkWrite(documents, ordered, document -> {
+			String identifierField = document.getMongoInfo().identifier();
+			Bson filter = Filters.eq(identifierField, document.toDocument().get(identifierField).toString());
+			return new BulkWrite(filter, new DeleteOneModel<>(filter), null, BulkResult.Status.DELETED);
+		});
+	}
+
+	public BulkResult deleteAll(List<? extends IMongoDocument> documents) {
+		return deleteAll(documents, true);
+	}
+
+	private <T extends IMongoDocument> BulkResult bulkWrite(List<T> documents, boolean ordered, Function<T, BulkWrite> preparer) {
+		BulkResult result = new BulkResult(documents.size());
+		Map<Class<?>, MongoCollection<Document>> collections = new HashMap<>();
+		List<BulkWrite> chunk = new ArrayList<>();
+		int models = 0;
+		for (int i = 0; i < documents.size(); i++) {
+			T document = documents.get(i);
+			BulkWrite write;
+			try {
+				MongoCollection<Document> collection = collections.computeIfAbsent(document.getClass(), this::getCollection);
+				write = preparer.apply(document);
+				write.index = i;
+				write.collection = collection;
+			} catch (RuntimeException e) {
+				result.set(i, BulkResult.Status.FAILED, e.getMessage());
+				if (!ordered) continue;
+				flush(chunk, true, result);
+				return result;
+			}
+			if (!chunk.isEmpty() && (models >= bulkSize || chunk.get(0).collection != write.collection)) {
+				if (!flush(chunk, ordered, result) && ordered) return result;
+				models = 0;
+			}
+			chunk.add(write);
+			if (write.model != null) models++;
+		}
+		flush(chunk, ordered, result);
+		return result;
+	}
+
+	private boolean flush(List<BulkWrite> chunk, boolean ordered, BulkResult result) {
+		if (chunk.isEmpty()) return true;
+		MongoCollection<Document> collection = chunk.get(0).collection;
+		MongoCache cache = isCached(collection) ? MongoCache.getCache(collection) : null;
+		List<WriteModel<Document>> models = new ArrayList<>(chunk.size());
+		int[] positions = new int[chunk.size()];
+		for (int i = 0; i < chunk.size(); i++) {
+			BulkWrite write = chunk.get(i);
+			positions[i] = write.model == null ? -1 : models.size();
+			if (write.model != null) models.add(write.model);
+			if (cache != null && write.model != null && write.document == null)
+				cache.remove(write.filter.toString());
+		}
+
+		BulkWriteResult writeResult = null;
+		Map<Integer, String> errors = new HashMap<>();
+		try {
+			if (!models.isEmpty())
+				writeResult = collection.bulkWrite(models, new BulkWriteOptions().ordered(ordered));
+		} catch (MongoBulkWriteException e) {
+			writeResult = e.getWriteResult();
+			for (BulkWriteError error : e.getWriteErrors()) errors.put(error.getIndex(), error.getMessage());
+		} catch (RuntimeException e) {
+			logger.error(LogMessage.fromException(new RuntimeException("Bulk write of " + models.size() + " document(s) to " + collection.getNamespace().getFullName() + " failed.", e)));
+			boolean failed = false;
+			for (BulkWrite write : chunk) {
+				if (write.model == null) {
+					result.set(write.index, ordered && failed ? BulkResult.Status.SKIPPED : write.status, null);
+					continue;
+				}
+				failed = true;
+				result.set(write.index, BulkResult.Status.FAILED, e.getMessage());
+				if (cache != null) cache.remove(write.filter.toString());
+			}
+			chunk.clear();
+			return false;
+		}
+
+		boolean acknowledged = writeResult != null && writeResult.wasAcknowledged();
+		Set<Integer> upserts = new HashSet<>();
+		if (acknowledged)
+			for (BulkWriteUpsert upsert : writeResult.getUpserts()) upserts.add(upsert.getIndex());
+		int stop = ordered && !errors.isEmpty() ? Collections.min(errors.keySet()) : Integer.MAX_VALUE;
+		boolean stopped = false;
+		int expected = 0;
+		List<BulkWrite> written = new ArrayList<>();
+		List<BulkWrite> missable = new ArrayList<>();
+		for (int i = 0; i < chunk.size(); i++) {
+			BulkWrite write = chunk.get(i);
+			int position = positions[i];
+			String error = position == -1 ? null : errors.get(position);
+			if (error != null) {
+				result.set(write.index, BulkResult.Status.FAILED, error);
+				if (cache != null) cache.remove(write.filter.toString());
+				if (position == stop) stopped = true;
+			} else if (stopped || position > stop) {
+				result.set(write.index, BulkResult.Status.SKIPPED, null);
+			} else if (position == -1) {
+				result.set(write.index, write.status, null);
+			} else if (upserts.contains(position)) {
+				result.set(write.index, BulkResult.Status.INSERTED, null);
+				written.add(write);
+			} else {
+				result.set(write.index, write.status, null);
+				written.add(write);
+				expected++;
+				if (!(write.model instanceof ReplaceOneModel)) missable.add(write);
+			}
+		}
+
+		Set<BulkWrite> unresolved = Collections.newSetFromMap(new IdentityHashMap<>());
+		if (acknowledged) {
+			long missing = expected - (long) writeResult.getMatchedCount() - writeResult.getDeletedCount();
+			if (missing > 0) {
+				BulkResult.Status status = missing == missable.size() ? BulkResult.Status.NOT_FOUND : BulkResult.Status.AMBIGUOUS;
+				for (BulkWrite write : missable)
+					result.set(write.index, status, status == BulkResult.Status.NOT_FOUND ? "No document matched the filter." : missing + " of " + missable.size() + " document(s) in this batch matched nothing.");
+				unresolved.addAll(missable);
+			}
+		}
+		if (cache != null)
+			for (BulkWrite write : written) {
+				if (write.document == null) continue;
+				if (acknowledged && !unresolved.contains(write)) cache.put(write.filter.toString(), write.document);
+				else cache.remove(write.filter.toString());
+			}
+		chunk.clear();
+		return errors.isEmpty();
+	}
+
 	public void setupIndexes(MongoCollection<Document> collection, MongoInfo mongoInfo) {
 		String collectionID = collection.getNamespace().getFullName();
 		if (indexedCollections.contains(collectionID)) return;
@@ -193,4 +371,20 @@ public class MongoConnection {
 		else baseName.append("_desc");
 		return baseName.toString();
 	}
+
+	private static class BulkWrite {
+		private final Bson filter;
+		private final WriteModel<Document> model;
+		private final Document document;
+		private final BulkResult.Status status;
+		private int index;
+		private MongoCollection<Document> collection;
+
+		private BulkWrite(Bson filter, WriteModel<Document> model, Document document, BulkResult.Status status) {
+			this.filter = filter;
+			this.model = model;
+			this.document = document;
+			this.status = status;
+		}
+	}
 }
@@ -28,17 +28,9 @@ public abstract class MongoDocument implements IMongoDocument {
 
 	public void update(MongoConnection mongoConnection) throws DocumentWriteException {
 		if (initialDocument == null) save(mongoConnection);
-		List<Bson> actions = new LinkedList<>();
 		Document currentDocument = toDocument();
-		Set<String> uniqueFields = new HashSet<>(currentDocument.keySet());
-		uniqueFields.addAll(initialDocument.keySet());
-		for (String key : uniqueFields) {
-			if (!currentDocument.containsKey(key))
-				actions.add(Updates.unset(key));
-			else if (initialDocument.get(key) == null || !initialDocument.get(key).equals(currentDocument.get(key)))
-				actions.add(Updates.set(key, currentDocument.get(key)));
-		}
-		if (actions.isEmpty()) return;
+		Bson changes = changes(currentDocument);
+		if (changes == null) return;
 		String identifierField = getMongoInfo().identifier();
 		MongoCollection<Document> collection = mongoConnection.getCollection(getClass());
 		Bson filter = Filters.eq(identifierField, currentDocument.get(identifierField));
@@ -46,7 +38,7 @@ public abstract class MongoDocument implements IMongoDocument {
 			MongoCache cache = MongoCache.getCache(collection);
 			cache.put(filter.toString(), currentDocument);
 		}
-		UpdateResult result = collection.updateOne(filter, Updates.combine(actions));
+		UpdateResult result = collection.updateOne(filter, changes);
 		if (result.getModifiedCount() != 1)
 			throw new DocumentWriteException("Could not update " + getClass().getSimpleName() + " in database.");
 	}
@@ -54,4 +46,21 @@ public abstract class MongoDocument implements IMongoDocument {
 	public void update() throws DocumentWriteException {
 		update(MongoConnection.getInstance());
 	}
+
+	Document getInitialDocument() {
+		return initialDocument;
+	}
+
+	Bson changes(Document currentDocument) {
+		List<Bson> actions = new LinkedList<>();
+		Set<String> uniqueFields = new HashSet<>(currentDocument.keySet());
+		uniqueFields.addAll(initialDocument.keySet());
+		for (String key : uniqueFields) {
+			if (!currentDocument.containsKey(key))
+				actions.add(Updates.unset(key));
+			else if (initialDocument.get(key) == null || !initialDocument.get(key).equals(currentDocument.get(key)))
+				actions.add(Updates.set(key, currentDocument.get(key)));
+		}
+		return actions.isEmpty() ? null : Updates.combine(actions);
+	}
 }
@@ -0,0 +1,150 @@
+package dev.petshopsoftware.utilities.Database.Mongo;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import dev.petshopsoftware.utilities.JSON.JSON;
+import org.bson.BsonReader;
+import org.bson.BsonWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.types.ObjectId;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class MongoDocumentCodec<T extends IMongoDocument> implements Codec<T> {
+	private static final Map<Class<?>, MongoDocumentCodec<?>> CODECS = new ConcurrentHashMap<>();
+	private static final Codec<Document> DOCUMENT_CODEC = new DocumentCodec();
+
+	private final Class<T> clazz;
+	private final ObjectWriter writer;
+	private final Codec<Document> documentCodec;
+	private final Constructor<T> constructor;
+
+	public MongoDocumentCodec(Class<T> clazz, Codec<Document> documentCodec) {
+		this.clazz = clazz;
+		this.writer = JSON.MAPPER.writerFor(clazz);
+		this.documentCodec = documentCodec;
+		Constructor<T> constructor;
+		try {
+			constructor = clazz.getDeclaredConstructor();
+			constructor.setAccessible(true);
+		} catch (NoSuchMethodException | RuntimeException e) {
+			constructor = null;
+		}
+		this.constructor = constructor;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T extends IMongoDocument> MongoDocumentCodec<T> of(Class<T> clazz) {
+		return (MongoDocumentCodec<T>) CODECS.computeIfAbsent(clazz, key -> new MongoDocumentCodec<>(clazz, DOCUMENT_CODEC));
+	}
+
+	public Document toDocument(IMongoDocument object) {
+		TokenBuffer tokens = new TokenBuffer(JSON.MAPPER, false);
+		try {
+			writer.writeValue(tokens, object);
+			try (JsonParser parser = tokens.asParser(JSON.MAPPER)) {
+				parser.nextToken();
+				Object value = read(parser);
+				if (!(value instanceof Document))
+					throw new IllegalArgumentException(clazz.getSimpleName() + " does not serialize to a document.");
+				return (Document) value;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public <S> S fromDocument(IMongoDocument object, Document document) {
+		return DocumentSnapshot.of(document).readInto(object);
+	}
+
+	@Override
+	public void encode(BsonWriter writer, T value, EncoderContext encoderContext) {
+		documentCodec.encode(writer, toDocument(value), encoderContext);
+	}
+
+	@Override
+	public T decode(BsonReader reader, DecoderContext decoderContext) {
+		if (constructor == null)
+			throw new CodecConfigurationException(clazz.getSimpleName() + " is missing a no-args constructor.");
+		Document document = documentCodec.decode(reader, decoderContext);
+		try {
+			return fromDocument(constructor.newInstance(), document);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Failed to initialize " + clazz.getSimpleName() + ".", e);
+		}
+	}
+
+	@Override
+	public Class<T> getEncoderClass() {
+		return clazz;
+	}
+
+	private static Object read(JsonParser parser) throws IOException {
+		JsonToken token = parser.currentToken();
+		switch (token) {
+			case START_OBJECT:
+				Document document = new Document();
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String name = parser.getCurrentName();
+					parser.nextToken();
+					document.put(name, read(parser));
+				}
+				if (document.isEmpty() || !document.keySet().iterator().next().startsWith("$")) return document;
+				if (document.size() == 1 && document.get("$oid") instanceof String && ObjectId.isValid(document.getString("$oid")))
+					return new ObjectId(document.getString("$oid"));
+				return Document.parse(new Document("value", document).toJson()).get("value");
+			case START_ARRAY:
+				List<Object> list = new ArrayList<>();
+				while (parser.nextToken() != JsonToken.END_ARRAY)
+					list.add(read(parser));
+				return list;
+			case VALUE_STRING:
+				return parser.getText();
+			case VALUE_TRUE:
+				return true;
+			case VALUE_FALSE:
+				return false;
+			case VALUE_NULL:
+				return null;
+			case VALUE_NUMBER_INT:
+				switch (parser.getNumberType()) {
+					case INT:
+						return parser.getIntValue();
+					case LONG:
+						long value = parser.getLongValue();
+						return value == (int) value ? (Object) (int) value : (Object) value;
+					default:
+						BigInteger big = parser.getBigIntegerValue();
+						if (big.bitLength() < 32) return big.intValue();
+						if (big.bitLength() < 64) return big.longValue();
+						throw new NumberFormatException("Integer " + big + " does not fit in a 64-bit BSON integer.");
+				}
+			case VALUE_NUMBER_FLOAT:
+				double number = parser.getNumberType() == JsonParser.NumberType.FLOAT ? Double.parseDouble(parser.getText()) : parser.getDoubleValue();
+				if (Double.isNaN(number) || Double.isInfinite(number)) return parser.getText();
+				return number;
+			case VALUE_EMBEDDED_OBJECT:
+				Object embedded = parser.getEmbeddedObject();
+				if (embedded instanceof byte[]) return Base64.getEncoder().encodeToString((byte[]) embedded);
+				return Document.parse("{\"value\": " + JSON.MAPPER.writeValueAsString(embedded) + "}").get("value");
+			default:
+				throw new IllegalStateException("Unexpected token " + token + ".");
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package dev.petshopsoftware.utilities.Database.Mongo;
+
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+public class MongoDocumentCodecProvider implements CodecProvider {
+	@Override
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+		if (!IMongoDocument.class.isAssignableFrom(clazz) || clazz.isInterface()) return null;
+		return new MongoDocumentCodec(clazz, registry.get(Document.class));
+	}
+}
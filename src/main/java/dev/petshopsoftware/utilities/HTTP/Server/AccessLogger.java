@@ -0,0 +1,185 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.sun.net.httpserver.Headers;
+import dev.petshopsoftware.utilities.Logging.Level;
+import dev.petshopsoftware.utilities.Logging.LogMessage;
+import dev.petshopsoftware.utilities.Logging.Logger;
+import dev.petshopsoftware.utilities.Util.ParsingMode;
+import dev.petshopsoftware.utilities.Util.StringUtils;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+
+import javax.xml.bind.DatatypeConverter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class AccessLogger {
+	public static final int DEFAULT_CAPACITY = 8192;
+
+	private final Logger logger;
+	private final ThreadPoolExecutor executor;
+	private final AtomicLong dropped = new AtomicLong();
+
+	public AccessLogger(Logger logger, int capacity) {
+		this.logger = logger;
+		this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(capacity), runnable -> {
+			Thread thread = new Thread(runnable, logger.getID() + "-access-log");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public AccessLogger(Logger logger) {
+		this(logger, DEFAULT_CAPACITY);
+	}
+
+	public void in(HTTPData data) {
+		if (!logger.isLoggable(Level.INFO)) return;
+		long timestamp = System.currentTimeMillis();
+		String method = String.valueOf(data.method());
+		String path = data.path();
+		String ip = data.ip();
+		submit(() -> log(Level.INFO, "IN: " + method + " " + path + " from " + ip + ".", timestamp));
+	}
+
+	public void out(String requestID, HTTPData data, HTTPResponse response, int code, Headers headers, long bytes, long durationNanos) {
+		if (!logger.isLoggable(Level.INFO)) return;
+		AccessRecord record = new AccessRecord(requestID, data, response, code, headers, bytes, durationNanos, System.currentTimeMillis(), logger.isLoggable(Level.DEBUG));
+		submit(() -> render(record));
+	}
+
+	protected void submit(Runnable task) {
+		try {
+			executor.execute(task);
+		} catch (RejectedExecutionException e) {
+			dropped.incrementAndGet();
+		}
+	}
+
+	protected void render(AccessRecord record) {
+		String duration = String.format(Locale.ROOT, "%.2f", record.durationNanos / 1_000_000D);
+		if (record.method != null)
+			log(Level.INFO, "OUT: " + record.method + " " + record.path + " to " + record.ip + " (" + record.code + " in " + duration + " ms).", record.timestamp);
+		else
+			log(Level.WARN, "OUT: Failed to capture request data for " + record.requestID + ".", record.timestamp);
+		if (!record.detailed) return;
+		if (record.method != null)
+			log(Level.DEBUG, record.describeRequest(), record.timestamp);
+		StringBuilder builder = new StringBuilder();
+		builder.append(record.code).append(" ").append(EnglishReasonPhraseCatalog.INSTANCE.getReason(record.code, Locale.ENGLISH)).append("\n");
+		builder.append("REQUEST ID: ").append(record.requestID).append("\n");
+		if (!record.headers.isEmpty()) {
+			builder.append("Headers:\n");
+			StringBuilder headerBuilder = new StringBuilder();
+			record.headers.forEach((key, values) -> values.forEach(value -> headerBuilder.append(key).append(": ").append(value).append("\n")));
+			builder.append(StringUtils.padLeft(headerBuilder.toString(), 2)).append("\n");
+		}
+		if (record.bytes > 0) {
+			builder.append("Body:\n");
+			String body;
+			if (record.responseBody instanceof byte[])
+				body = DatatypeConverter.printHexBinary((byte[]) record.responseBody);
+			else body = String.valueOf(record.responseBody);
+			builder.append(StringUtils.padLeft(body, 2));
+		}
+		log(Level.DEBUG, builder.toString(), record.timestamp);
+	}
+
+	protected void log(Level level, String message, long timestamp) {
+		logger.log(new LogMessage(logger.getID(), level, message, timestamp, logger.getFormat()));
+	}
+
+	public long getDropped() {
+		return dropped.get();
+	}
+
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	protected static class AccessRecord {
+		private final String requestID;
+		private final String method;
+		private final String path;
+		private final String ip;
+		private final int code;
+		private final long bytes;
+		private final long durationNanos;
+		private final long timestamp;
+		private final boolean detailed;
+		private final Map<String, List<String>> headers;
+		private final Object responseBody;
+		private final String query;
+		private final Map<String, List<String>> queryParams;
+		private final Map<String, List<String>> requestHeaders;
+		private final byte[] requestBody;
+		private final boolean requestStreamed;
+		private final ParsingMode parsingMode;
+
+		protected AccessRecord(String requestID, HTTPData data, HTTPResponse response, int code, Headers headers, long bytes, long durationNanos, long timestamp, boolean detailed) {
+			this.requestID = requestID;
+			this.method = data == null ? null : String.valueOf(data.method());
+			this.path = data == null ? null : data.path();
+			this.ip = data == null ? null : data.ip();
+			this.code = code;
+			this.bytes = bytes;
+			this.durationNanos = durationNanos;
+			this.timestamp = timestamp;
+			this.detailed = detailed;
+			this.headers = detailed ? copy(headers) : Collections.emptyMap();
+			this.responseBody = detailed && bytes > 0 ? responseBody(response) : null;
+			if (detailed && data != null) {
+				Map<String, String> queryParams = data.queryParams();
+				this.query = queryParams instanceof QueryParams ? ((QueryParams) queryParams).getQuery() : null;
+				this.queryParams = query == null ? HTTPData.multiMap(queryParams) : null;
+				this.requestHeaders = copy(data.headers());
+				this.requestBody = data.bufferedBody();
+				this.requestStreamed = data.isBodyStreamed();
+				this.parsingMode = data.route() == null ? null : data.route().parsingMode();
+			} else {
+				this.query = null;
+				this.queryParams = null;
+				this.requestHeaders = null;
+				this.requestBody = null;
+				this.requestStreamed = false;
+				this.parsingMode = null;
+			}
+		}
+
+		private static Map<String, List<String>> copy(Map<String, List<String>> headers) {
+			Map<String, List<String>> copy = new LinkedHashMap<>();
+			headers.forEach((key, values) -> copy.put(key, new ArrayList<>(values)));
+			return copy;
+		}
+
+		private static Object responseBody(HTTPResponse response) {
+			if (response instanceof FileResponse) return "<file>";
+			if (response instanceof StreamResponse) return "<stream>";
+			if (response.getData() == null && response.getParsingMode() != ParsingMode.JSON) return "<empty>";
+			if (response.getParsingMode() == ParsingMode.RAW || response.getParsingMode() == ParsingMode.STRING)
+				return response.getData();
+			return response.toString();
+		}
+
+		protected String describeRequest() {
+			Map<String, List<String>> queryParams = this.queryParams;
+			String queryError = null;
+			if (queryParams == null)
+				try {
+					queryParams = query == null ? Collections.emptyMap() : QueryParams.parse(query);
+				} catch (InvalidQueryException e) {
+					queryParams = Collections.emptyMap();
+					queryError = e.getMessage();
+				}
+			return HTTPData.describe(method, path, ip, requestID, queryParams, queryError, requestHeaders, requestBody, requestStreamed, parsingMode);
+		}
+	}
+}
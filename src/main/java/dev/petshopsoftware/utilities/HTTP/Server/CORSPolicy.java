@@ -0,0 +1,93 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.sun.net.httpserver.Headers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class CORSPolicy {
+	public static final CORSPolicy ALLOW_ALL = new CORSPolicy("*", "*", "*", null, false, 86400);
+
+	private final String allowOrigin;
+	private final String allowMethods;
+	private final String allowHeaders;
+	private final String exposeHeaders;
+	private final boolean allowCredentials;
+	private final long maxAge;
+	private final Map<String, String> headers = new LinkedHashMap<>();
+
+	public CORSPolicy(String allowOrigin, String allowMethods, String allowHeaders, String exposeHeaders, boolean allowCredentials, long maxAge) {
+		this.allowOrigin = allowOrigin;
+		this.allowMethods = allowMethods;
+		this.allowHeaders = allowHeaders;
+		this.exposeHeaders = exposeHeaders;
+		this.allowCredentials = allowCredentials;
+		this.maxAge = maxAge;
+		put("Access-Control-Allow-Origin", allowOrigin);
+		put("Access-Control-Allow-Methods", allowMethods);
+		put("Access-Control-Allow-Headers", allowHeaders);
+		put("Access-Control-Expose-Headers", exposeHeaders);
+		if (allowCredentials) put("Access-Control-Allow-Credentials", "true");
+		if (maxAge >= 0) put("Access-Control-Max-Age", String.valueOf(maxAge));
+	}
+
+	public CORSPolicy(String allowOrigin) {
+		this(allowOrigin, "*", "*", null, false, 86400);
+	}
+
+	private void put(String key, String value) {
+		if (value != null) headers.put(key, value);
+	}
+
+	public CORSPolicy allowOrigin(String allowOrigin) {
+		return new CORSPolicy(allowOrigin, allowMethods, allowHeaders, exposeHeaders, allowCredentials, maxAge);
+	}
+
+	public CORSPolicy allowMethods(String allowMethods) {
+		return new CORSPolicy(allowOrigin, allowMethods, allowHeaders, exposeHeaders, allowCredentials, maxAge);
+	}
+
+	public CORSPolicy allowHeaders(String allowHeaders) {
+		return new CORSPolicy(allowOrigin, allowMethods, allowHeaders, exposeHeaders, allowCredentials, maxAge);
+	}
+
+	public CORSPolicy exposeHeaders(String exposeHeaders) {
+		return new CORSPolicy(allowOrigin, allowMethods, allowHeaders, exposeHeaders, allowCredentials, maxAge);
+	}
+
+	public CORSPolicy allowCredentials(boolean allowCredentials) {
+		return new CORSPolicy(allowOrigin, allowMethods, allowHeaders, exposeHeaders, allowCredentials, maxAge);
+	}
+
+	public CORSPolicy maxAge(long maxAge) {
+		return new CORSPolicy(allowOrigin, allowMethods, allowHeaders, exposeHeaders, allowCredentials, maxAge);
+	}
+
+	public void apply(Headers headers) {
+		this.headers.forEach(headers::set);
+	}
+
+	public String getAllowOrigin() {
+		return allowOrigin;
+	}
+
+	public String getAllowMethods() {
+		return allowMethods;
+	}
+
+	public String getAllowHeaders() {
+		return allowHeaders;
+	}
+
+	public String getExposeHeaders() {
+		return exposeHeaders;
+	}
+
+	public boolean isAllowCredentials() {
+		return allowCredentials;
+	}
+
+	public long getMaxAge() {
+		return maxAge;
+	}
+}
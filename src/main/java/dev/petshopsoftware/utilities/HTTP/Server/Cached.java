@@ -0,0 +1,17 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cached {
+	long ttl() default 60;
+
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+	String[] varyHeaders() default {};
+}
@@ -0,0 +1,79 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+public enum ContentEncoding {
+	GZIP("gzip"),
+	DEFLATE("deflate");
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final String token;
+
+	ContentEncoding(String token) {
+		this.token = token;
+	}
+
+	public static ContentEncoding negotiate(String acceptEncoding) {
+		if (acceptEncoding == null || acceptEncoding.isEmpty()) return null;
+		ContentEncoding selected = null;
+		float selectedQuality = 0;
+		int start = 0;
+		while (start < acceptEncoding.length()) {
+			int end = acceptEncoding.indexOf(',', start);
+			if (end == -1) end = acceptEncoding.length();
+			int parameters = acceptEncoding.indexOf(';', start);
+			int tokenEnd = parameters == -1 || parameters > end ? end : parameters;
+			String token = acceptEncoding.substring(start, tokenEnd).trim();
+			float quality = tokenEnd == end ? 1 : parseQuality(acceptEncoding.substring(tokenEnd + 1, end));
+			start = end + 1;
+			if (quality <= 0) continue;
+			ContentEncoding encoding;
+			if (token.equalsIgnoreCase(GZIP.token) || token.equalsIgnoreCase("x-gzip") || token.equals("*"))
+				encoding = GZIP;
+			else if (token.equalsIgnoreCase(DEFLATE.token))
+				encoding = DEFLATE;
+			else continue;
+			if (quality > selectedQuality || (quality == selectedQuality && encoding == GZIP)) {
+				selected = encoding;
+				selectedQuality = quality;
+			}
+		}
+		return selected;
+	}
+
+	private static float parseQuality(String parameters) {
+		for (String parameter : parameters.split(";")) {
+			parameter = parameter.trim();
+			if (!parameter.startsWith("q=")) continue;
+			try {
+				return Float.parseFloat(parameter.substring(2).trim());
+			} catch (NumberFormatException e) {
+				return 0;
+			}
+		}
+		return 1;
+	}
+
+	public static boolean isCompressible(String contentType) {
+		if (contentType == null) return false;
+		contentType = contentType.toLowerCase();
+		return contentType.startsWith("text/")
+				|| contentType.contains("json")
+				|| contentType.contains("xml")
+				|| contentType.contains("javascript")
+				|| contentType.contains("svg");
+	}
+
+	public OutputStream wrap(OutputStream outputStream) throws IOException {
+		if (this == GZIP) return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+		return new DeflaterOutputStream(outputStream);
+	}
+
+	public String getToken() {
+		return token;
+	}
+}
@@ -0,0 +1,72 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public enum ExecutorMode {
+	DIRECT,
+	FIXED,
+	FORK_JOIN,
+	VIRTUAL;
+
+	private static volatile Boolean virtualAvailable;
+
+	public static boolean isVirtualAvailable() {
+		Boolean available = virtualAvailable;
+		if (available == null) {
+			available = probeVirtual();
+			virtualAvailable = available;
+		}
+		return available;
+	}
+
+	private static boolean probeVirtual() {
+		ExecutorService executor = null;
+		try {
+			executor = newVirtualExecutor();
+			executor.submit(() -> {
+			}).get(5, TimeUnit.SECONDS);
+			return true;
+		} catch (Exception | LinkageError e) {
+			return false;
+		} finally {
+			if (executor != null) executor.shutdownNow();
+		}
+	}
+
+	private static ExecutorService newVirtualExecutor() throws ReflectiveOperationException {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (InvocationTargetException e) {
+			if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+			throw e;
+		}
+	}
+
+	public ExecutorService create(String name, int threads) {
+		AtomicInteger counter = new AtomicInteger();
+		switch (this) {
+			case FIXED:
+				return new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+					Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+					thread.setDaemon(false);
+					return thread;
+				});
+			case FORK_JOIN:
+				return new ForkJoinPool(threads, pool -> {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					thread.setName(name + "-" + counter.incrementAndGet());
+					return thread;
+				}, null, true);
+			case VIRTUAL:
+				try {
+					return newVirtualExecutor();
+				} catch (ReflectiveOperationException | RuntimeException e) {
+					throw new UnsupportedOperationException("Virtual threads are not supported by this Java runtime.", e);
+				}
+			default:
+				return null;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.sun.net.httpserver.Headers;
+import dev.petshopsoftware.utilities.Util.ParsingMode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class FileResponse extends HTTPResponse {
+	private final Path file;
+	private final byte[] bytes;
+	private final long offset;
+	private final long length;
+
+	public FileResponse(int code, Headers headers, Path file, long offset, long length) {
+		super(code, null, null, ParsingMode.RAW, headers);
+		this.file = file;
+		this.bytes = null;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	public FileResponse(int code, Headers headers, byte[] bytes, int offset, int length) {
+		super(code, null, null, ParsingMode.RAW, headers);
+		this.file = null;
+		this.bytes = bytes;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	public FileResponse(int code, Headers headers) {
+		this(code, headers, new byte[0], 0, 0);
+	}
+
+	@Override
+	protected HTTPResponse headers(Headers headers) {
+		if (file != null) return new FileResponse(code, headers, file, offset, length);
+		return new FileResponse(code, headers, bytes, (int) offset, (int) length);
+	}
+
+	public void transferTo(OutputStream outputStream) throws IOException {
+		if (length <= 0) return;
+		if (bytes != null) {
+			outputStream.write(bytes, (int) offset, (int) length);
+			return;
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			WritableByteChannel target = Channels.newChannel(outputStream);
+			long position = offset;
+			long remaining = length;
+			while (remaining > 0) {
+				long transferred = channel.transferTo(position, remaining, target);
+				if (transferred <= 0) {
+					if (position >= channel.size())
+						throw new IOException("File " + file + " was truncated while being sent.");
+					continue;
+				}
+				position += transferred;
+				remaining -= transferred;
+			}
+		}
+	}
+
+	public Path getFile() {
+		return file;
+	}
+
+	public long getOffset() {
+		return offset;
+	}
+
+	public long getLength() {
+		return length;
+	}
+}
@@ -1,7 +1,8 @@
 package dev.petshopsoftware.utilities.HTTP.Server;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpExchange;
 import dev.petshopsoftware.utilities.JSON.JSON;
@@ -9,7 +10,13 @@ import dev.petshopsoftware.utilities.Util.ParsingMode;
 import dev.petshopsoftware.utilities.Util.StringUtils;
 
 import javax.xml.bind.DatatypeConverter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class HTTPData {
@@ -19,16 +26,20 @@ public class HTTPData {
 	private final HTTPMethod method;
 	private final String path;
 	private final Route route;
+	private RouteEntry entry;
+	private volatile String subject;
 	private final Map<String, String> pathParams;
 	private final Map<String, String> queryParams;
 	private final Headers headers;
 	protected Exception bodyParseError = null;
 	private String ip;
 	private byte[] rawBody;
+	private boolean bodyStreamed = false;
 	private String body;
 	private JsonNode jsonBody;
+	private MultipartReader multipart;
 
-	public HTTPData(HttpExchange exchange, HTTPServer server, String requestID, HTTPMethod method, String path, Route route, Map<String, String> pathParams, Map<String, String> queryParams, byte[] rawBody) {
+	public HTTPData(HttpExchange exchange, HTTPServer server, String requestID, HTTPMethod method, String path, Route route, Map<String, String> pathParams, Map<String, String> queryParams) {
 		this.exchange = exchange;
 		this.server = server;
 		this.requestID = requestID;
@@ -39,22 +50,11 @@ public class HTTPData {
 		this.queryParams = queryParams;
 		this.headers = exchange.getRequestHeaders();
 		this.parseIP(exchange);
-		this.parseBody(rawBody);
 	}
 
-	private void parseBody(byte[] rawBody) {
-		if (rawBody == null) rawBody = new byte[0];
-		this.rawBody = rawBody;
-		this.body = new String(rawBody, StandardCharsets.UTF_8);
-		if (this.route != null) {
-			if (this.route.parsingMode() == ParsingMode.JSON)
-				try {
-					this.jsonBody = JSON.MAPPER.readTree(this.body);
-				} catch (JsonProcessingException e) {
-					this.bodyParseError = e;
-				}
-		}
-
+	public HTTPData(HttpExchange exchange, HTTPServer server, String requestID, HTTPMethod method, String path, Route route, Map<String, String> pathParams, Map<String, String> queryParams, byte[] rawBody) {
+		this(exchange, server, requestID, method, path, route, pathParams, queryParams);
+		this.rawBody = rawBody == null ? new byte[0] : rawBody;
 	}
 
 	private void parseIP(HttpExchange exchange) {
@@ -64,18 +64,102 @@ public class HTTPData {
 		else this.ip = ipAddress;
 	}
 
-	public byte[] rawBody() {
+	public synchronized byte[] rawBody() {
+		if (rawBody == null) {
+			if (bodyStreamed)
+				throw new IllegalStateException("Request body has already been consumed as a stream.");
+			try {
+				rawBody = route != null && route.maxBodySize() >= 0 ? server.readBody(exchange, route.maxBodySize()) : server.readBody(exchange);
+			} catch (IOException e) {
+				rawBody = new byte[0];
+			}
+		}
 		return rawBody;
 	}
 
-	public String body() {
+	public synchronized String body() {
+		if (body == null)
+			body = new String(rawBody(), StandardCharsets.UTF_8);
 		return body;
 	}
 
-	public JsonNode jsonBody() {
+	public synchronized JsonNode jsonBody() {
+		if (route == null || route.parsingMode() != ParsingMode.JSON) return null;
+		if (bodyParseError != null)
+			throw new InvalidBodyException("Invalid JSON payload.", bodyParseError);
+		if (jsonBody == null)
+			try {
+				jsonBody = JSON.MAPPER.readTree(rawBody());
+			} catch (IOException e) {
+				bodyParseError = e;
+				throw new InvalidBodyException("Invalid JSON payload.", e);
+			}
 		return jsonBody;
 	}
 
+	public <T> T jsonBody(ObjectReader reader) {
+		byte[] rawBody;
+		synchronized (this) {
+			rawBody = this.rawBody;
+		}
+		try {
+			if (rawBody != null) return reader.readValue(rawBody);
+			return reader.readValue(bodyStream());
+		} catch (IOException e) {
+			throw new InvalidBodyException("Invalid JSON payload.", e);
+		}
+	}
+
+	public <T> T jsonBody(Class<T> type) {
+		return jsonBody(JSON.MAPPER.readerFor(type));
+	}
+
+	public synchronized InputStream bodyStream() {
+		if (rawBody != null) return new ByteArrayInputStream(rawBody);
+		if (bodyStreamed)
+			throw new IllegalStateException("Request body has already been consumed as a stream.");
+		bodyStreamed = true;
+		long maxBodySize = maxBodySize();
+		if (maxBodySize < 0) return exchange.getRequestBody();
+		return new LimitedInputStream(exchange.getRequestBody(), maxBodySize);
+	}
+
+	public MultipartReader multipart(MultipartConfig config) {
+		String boundary = MultipartReader.boundary(headers.getFirst("Content-Type"));
+		if (boundary == null)
+			throw new InvalidBodyException("Invalid multipart payload: missing boundary.", null);
+		if (contentLength() > config.getMaxRequestSize())
+			throw new PayloadTooLargeException("Multipart payload exceeds " + config.getMaxRequestSize() + " bytes.", config.getMaxRequestSize());
+		MultipartReader multipart = new MultipartReader(bodyStream(), boundary, config);
+		synchronized (this) {
+			this.multipart = multipart;
+		}
+		return multipart;
+	}
+
+	public MultipartReader multipart() {
+		return multipart(server.getMultipartConfig());
+	}
+
+	public long maxBodySize() {
+		if (route != null && route.maxBodySize() >= 0) return route.maxBodySize();
+		return server.getMaxBodySize();
+	}
+
+	public long contentLength() {
+		String contentLength = headers.getFirst("Content-Length");
+		if (contentLength == null) return -1;
+		try {
+			return Long.parseLong(contentLength.trim());
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	public JsonParser jsonParser() throws IOException {
+		return JSON.MAPPER.getFactory().createParser(bodyStream());
+	}
+
 	public Map<String, String> pathParams() {
 		return pathParams;
 	}
@@ -84,6 +168,12 @@ public class HTTPData {
 		return queryParams;
 	}
 
+	public List<String> queryParams(String key) {
+		if (queryParams instanceof QueryParams) return ((QueryParams) queryParams).getAll(key);
+		String value = queryParams.get(key);
+		return value == null && !queryParams.containsKey(key) ? Collections.emptyList() : Collections.singletonList(value);
+	}
+
 	public Headers headers() {
 		return headers;
 	}
@@ -112,19 +202,74 @@ public class HTTPData {
 		return route;
 	}
 
+	public RouteEntry entry() {
+		return entry;
+	}
+
+	void entry(RouteEntry entry) {
+		this.entry = entry;
+	}
+
+	public String subject() {
+		return subject;
+	}
+
+	public HTTPData subject(String subject) {
+		this.subject = subject;
+		return this;
+	}
+
 	public String ip() {
 		return ip;
 	}
 
+	void release() throws IOException {
+		MultipartReader multipart;
+		synchronized (this) {
+			multipart = this.multipart;
+			this.multipart = null;
+		}
+		if (multipart != null) multipart.close();
+	}
+
+	synchronized byte[] bufferedBody() {
+		return rawBody;
+	}
+
+	synchronized boolean isBodyStreamed() {
+		return bodyStreamed;
+	}
+
 	@Override
 	public String toString() {
+		Map<String, List<String>> query;
+		String queryError = null;
+		try {
+			query = multiMap(queryParams);
+		} catch (InvalidQueryException e) {
+			query = Collections.emptyMap();
+			queryError = e.getMessage();
+		}
+		return describe(String.valueOf(method), path, ip, requestID, query, queryError, headers, bufferedBody(), isBodyStreamed(), route == null ? null : route.parsingMode());
+	}
+
+	static Map<String, List<String>> multiMap(Map<String, String> queryParams) {
+		if (queryParams instanceof QueryParams) return ((QueryParams) queryParams).asMultiMap();
+		Map<String, List<String>> query = new LinkedHashMap<>();
+		queryParams.forEach((key, value) -> query.put(key, Collections.singletonList(value)));
+		return query;
+	}
+
+	static String describe(String method, String path, String ip, String requestID, Map<String, List<String>> query, String queryError, Map<String, List<String>> headers, byte[] rawBody, boolean bodyStreamed, ParsingMode parsingMode) {
 		StringBuilder builder = new StringBuilder();
 		builder.append(method).append(" ").append(path).append(" from ").append(ip).append("\n");
 		builder.append("REQUEST ID: ").append(requestID).append("\n");
-		if (!queryParams.isEmpty()) {
+		if (queryError != null)
+			builder.append("Query:\n").append(StringUtils.padLeft("Invalid Query: " + queryError, 2)).append("\n");
+		else if (!query.isEmpty()) {
 			builder.append("Query:\n");
 			StringBuilder queryBuilder = new StringBuilder();
-			queryParams.forEach((key, value) -> queryBuilder.append(key).append(": ").append(value).append("\n"));
+			query.forEach((key, values) -> values.forEach(value -> queryBuilder.append(key).append(": ").append(value).append("\n")));
 			builder.append(StringUtils.padLeft(queryBuilder.toString(), 2)).append("\n");
 		}
 		if (!headers.isEmpty()) {
@@ -133,19 +278,23 @@ public class HTTPData {
 			headers.forEach((key, values) -> values.forEach(value -> headerBuilder.append(key).append(": ").append(value).append("\n")));
 			builder.append(StringUtils.padLeft(headerBuilder.toString(), 2)).append("\n");
 		}
+		if (rawBody == null) {
+			if (bodyStreamed)
+				builder.append("Body:\n").append(StringUtils.padLeft("Streamed body.", 2));
+			return builder.toString();
+		}
 		if (rawBody.length > 0) {
 			builder.append("Body:\n");
 			StringBuilder bodyBuilder = new StringBuilder();
-			if (this.route != null && bodyParseError == null) {
-				if (route.parsingMode() == ParsingMode.RAW)
-					bodyBuilder.append(DatatypeConverter.printHexBinary(rawBody));
-				else if (route.parsingMode() == ParsingMode.STRING)
-					bodyBuilder.append(body);
-				else if (route.parsingMode() == ParsingMode.JSON)
-					bodyBuilder.append(jsonBody.toPrettyString());
-				else bodyBuilder.append("Invalid Body: Invalid route Parsing Mode.");
-			} else if (route == null) bodyBuilder.append(body);
-			else bodyBuilder.append("Invalid Body: ").append(bodyParseError.getMessage());
+			if (parsingMode == ParsingMode.RAW)
+				bodyBuilder.append(DatatypeConverter.printHexBinary(rawBody));
+			else if (parsingMode == ParsingMode.JSON)
+				try {
+					bodyBuilder.append(JSON.MAPPER.readTree(rawBody).toPrettyString());
+				} catch (IOException e) {
+					bodyBuilder.append("Invalid Body: ").append(e.getMessage());
+				}
+			else bodyBuilder.append(new String(rawBody, StandardCharsets.UTF_8));
 			builder.append(StringUtils.padLeft(bodyBuilder.toString(), 2));
 		}
 		return builder.toString();
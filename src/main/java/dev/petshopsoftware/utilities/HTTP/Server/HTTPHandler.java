@@ -3,7 +3,23 @@ package dev.petshopsoftware.utilities.HTTP.Server;
 import java.lang.reflect.Method;
 
 public interface HTTPHandler {
-	boolean matchesRoute(HTTPData data, Route route, Method method);
+	default boolean matchesRoute(Route route, Method method) {
+		return true;
+	}
 
-	HTTPResponse handle(HTTPData data, Method method);
+	default boolean matchesRoute(HTTPData data, Route route, Method method) {
+		return true;
+	}
+
+	default HTTPResponse handle(HTTPData data, Method method) {
+		return null;
+	}
+
+	default HTTPResponse around(HTTPData data, Method method, RouteInvoker next) throws Exception {
+		return next.invoke(data);
+	}
+
+	default HTTPResponse after(HTTPData data, Method method, HTTPResponse response) {
+		return response;
+	}
 }
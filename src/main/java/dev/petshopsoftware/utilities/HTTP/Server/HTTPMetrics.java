@@ -0,0 +1,118 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class HTTPMetrics {
+	public static final String PROMETHEUS_CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+	private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+	private final Map<String, RouteMetrics> routes = new ConcurrentHashMap<>();
+	private final RouteMetrics server = new RouteMetrics("*", "*");
+	private final RouteMetrics unmatched = new RouteMetrics("*", "<unmatched>");
+
+	public RouteMetrics register(RouteEntry entry) {
+		return routes.computeIfAbsent(entry.getID(), id -> new RouteMetrics(entry.getRoute().method().toString(), entry.getPath()));
+	}
+
+	public RouteMetrics route(RouteEntry entry) {
+		if (entry == null) return unmatched;
+		RouteMetrics metrics = routes.get(entry.getID());
+		return metrics == null ? register(entry) : metrics;
+	}
+
+	public void start(RouteMetrics metrics) {
+		server.start();
+		metrics.start();
+	}
+
+	public void end(RouteMetrics metrics, int status, long durationNanos) {
+		server.end(status, durationNanos);
+		metrics.end(status, durationNanos);
+	}
+
+	public RouteMetrics getServer() {
+		return server;
+	}
+
+	public RouteMetrics getUnmatched() {
+		return unmatched;
+	}
+
+	public RouteMetrics getRoute(String id) {
+		return routes.get(id);
+	}
+
+	public Collection<RouteMetrics> getRoutes() {
+		return Collections.unmodifiableCollection(routes.values());
+	}
+
+	public String toPrometheus() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("# HELP http_requests_total Completed HTTP requests by route and status.\n");
+		builder.append("# TYPE http_requests_total counter\n");
+		for (RouteMetrics metrics : routes.values())
+			appendStatuses(builder, metrics);
+		appendStatuses(builder, unmatched);
+		builder.append("# HELP http_requests_in_flight HTTP requests currently being handled.\n");
+		builder.append("# TYPE http_requests_in_flight gauge\n");
+		for (RouteMetrics metrics : routes.values())
+			builder.append("http_requests_in_flight").append(labels(metrics, null)).append(" ").append(metrics.getInFlight()).append("\n");
+		builder.append("http_requests_in_flight").append(labels(unmatched, null)).append(" ").append(unmatched.getInFlight()).append("\n");
+		builder.append("# HELP http_request_duration_seconds HTTP request latency by route.\n");
+		builder.append("# TYPE http_request_duration_seconds summary\n");
+		for (RouteMetrics metrics : routes.values())
+			appendLatency(builder, metrics);
+		appendLatency(builder, unmatched);
+		builder.append("# HELP http_server_requests_total Completed HTTP requests across all routes by status.\n");
+		builder.append("# TYPE http_server_requests_total counter\n");
+		appendStatuses(builder, "http_server_requests_total", server, false);
+		builder.append("# HELP http_server_requests_in_flight HTTP requests currently being handled across all routes.\n");
+		builder.append("# TYPE http_server_requests_in_flight gauge\n");
+		builder.append("http_server_requests_in_flight ").append(server.getInFlight()).append("\n");
+		builder.append("# HELP http_server_request_duration_seconds HTTP request latency across all routes.\n");
+		builder.append("# TYPE http_server_request_duration_seconds summary\n");
+		appendLatency(builder, "http_server_request_duration_seconds", server, false);
+		return builder.toString();
+	}
+
+	private void appendStatuses(StringBuilder builder, RouteMetrics metrics) {
+		appendStatuses(builder, "http_requests_total", metrics, true);
+	}
+
+	private void appendStatuses(StringBuilder builder, String name, RouteMetrics metrics, boolean route) {
+		metrics.getStatusCounts().forEach((status, count) -> builder.append(name)
+				.append(labels(route ? metrics : null, "code=\"" + status + "\"")).append(" ").append(count).append("\n"));
+	}
+
+	private void appendLatency(StringBuilder builder, RouteMetrics metrics) {
+		appendLatency(builder, "http_request_duration_seconds", metrics, true);
+	}
+
+	private void appendLatency(StringBuilder builder, String name, RouteMetrics metrics, boolean route) {
+		RouteMetrics labelled = route ? metrics : null;
+		LatencyHistogram latency = metrics.getLatency();
+		long[] values = latency.getPercentiles(QUANTILES);
+		for (int i = 0; i < QUANTILES.length; i++)
+			builder.append(name).append(labels(labelled, "quantile=\"" + QUANTILES[i] + "\""))
+					.append(" ").append(seconds(values[i])).append("\n");
+		builder.append(name).append("_sum").append(labels(labelled, null)).append(" ").append(seconds(latency.getSum())).append("\n");
+		builder.append(name).append("_count").append(labels(labelled, null)).append(" ").append(latency.getCount()).append("\n");
+	}
+
+	private static String labels(RouteMetrics metrics, String extra) {
+		if (metrics == null) return extra == null ? "" : "{" + extra + "}";
+		return "{method=\"" + escape(metrics.getMethod()) + "\",route=\"" + escape(metrics.getPath()) + "\"" + (extra == null ? "" : "," + extra) + "}";
+	}
+
+	private static String seconds(long nanos) {
+		return String.format(Locale.ROOT, "%.9f", nanos / 1_000_000_000D);
+	}
+
+	private static String escape(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+}
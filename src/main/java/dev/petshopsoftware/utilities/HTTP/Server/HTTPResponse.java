@@ -1,41 +1,57 @@
 package dev.petshopsoftware.utilities.HTTP.Server;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.sun.net.httpserver.Headers;
 import dev.petshopsoftware.utilities.JSON.JSONResponse;
 import dev.petshopsoftware.utilities.Util.ParsingMode;
+import dev.petshopsoftware.utilities.Util.Types.Pair;
+
+import java.util.ArrayList;
 
 public class HTTPResponse extends JSONResponse {
 	// 2XX code range
-	public static final HTTPResponse OK = new HTTPResponse(JSONResponse.OK);
-	public static final HTTPResponse CREATED = new HTTPResponse(JSONResponse.CREATED);
-	public static final HTTPResponse ACCEPTED = new HTTPResponse(JSONResponse.ACCEPTED);
-	public static final HTTPResponse NO_CONTENT = new HTTPResponse(JSONResponse.NO_CONTENT);
+	public static final HTTPResponse OK = new HTTPResponse(JSONResponse.OK).shared();
+	public static final HTTPResponse CREATED = new HTTPResponse(JSONResponse.CREATED).shared();
+	public static final HTTPResponse ACCEPTED = new HTTPResponse(JSONResponse.ACCEPTED).shared();
+	public static final HTTPResponse NO_CONTENT = new HTTPResponse(JSONResponse.NO_CONTENT).shared();
 
 	// 4XX code range
-	public static final HTTPResponse BAD_REQUEST = new HTTPResponse(JSONResponse.BAD_REQUEST);
-	public static final HTTPResponse INVALID_JSON = new HTTPResponse(JSONResponse.INVALID_JSON);
-	public static final HTTPResponse INVALID_BODY = new HTTPResponse(JSONResponse.INVALID_BODY);
-	public static final HTTPResponse UNAUTHORIZED = new HTTPResponse(JSONResponse.UNAUTHORIZED);
-	public static final HTTPResponse FORBIDDEN = new HTTPResponse(JSONResponse.FORBIDDEN);
-	public static final HTTPResponse NOT_FOUND = new HTTPResponse(JSONResponse.NOT_FOUND);
-	public static final HTTPResponse CONFLICT = new HTTPResponse(JSONResponse.CONFLICT);
-	public static final HTTPResponse TIMEOUT = new HTTPResponse(JSONResponse.TIMEOUT);
+	public static final HTTPResponse BAD_REQUEST = new HTTPResponse(JSONResponse.BAD_REQUEST).shared();
+	public static final HTTPResponse INVALID_JSON = new HTTPResponse(JSONResponse.INVALID_JSON).shared();
+	public static final HTTPResponse INVALID_BODY = new HTTPResponse(JSONResponse.INVALID_BODY).shared();
+	public static final HTTPResponse UNAUTHORIZED = new HTTPResponse(JSONResponse.UNAUTHORIZED).shared();
+	public static final HTTPResponse FORBIDDEN = new HTTPResponse(JSONResponse.FORBIDDEN).shared();
+	public static final HTTPResponse NOT_FOUND = new HTTPResponse(JSONResponse.NOT_FOUND).shared();
+	public static final HTTPResponse CONFLICT = new HTTPResponse(JSONResponse.CONFLICT).shared();
+	public static final HTTPResponse PAYLOAD_TOO_LARGE = new HTTPResponse(JSONResponse.PAYLOAD_TOO_LARGE).shared();
+	public static final HTTPResponse TIMEOUT = new HTTPResponse(JSONResponse.TIMEOUT).shared();
 
 	// 5XX code range
-	public static final HTTPResponse INTERNAL_ERROR = new HTTPResponse(JSONResponse.INTERNAL_ERROR);
-	public static final HTTPResponse NOT_IMPLEMENTED = new HTTPResponse(JSONResponse.NOT_IMPLEMENTED);
-	public static final HTTPResponse UNAVAILABLE = new HTTPResponse(JSONResponse.UNAVAILABLE);
+	public static final HTTPResponse INTERNAL_ERROR = new HTTPResponse(JSONResponse.INTERNAL_ERROR).shared();
+	public static final HTTPResponse NOT_IMPLEMENTED = new HTTPResponse(JSONResponse.NOT_IMPLEMENTED).shared();
+	public static final HTTPResponse UNAVAILABLE = new HTTPResponse(JSONResponse.UNAVAILABLE).shared();
 
 	@JsonIgnore
 	private final ParsingMode parsingMode;
 	@JsonIgnore
 	private final Headers headers;
+	@JsonIgnore
+	private volatile Pair<ObjectWriter, byte[]> serialized = null;
+	@JsonIgnore
+	private volatile boolean shared = false;
 
-	public HTTPResponse(Integer code, String message, Object data, ParsingMode parsingMode) {
+	protected HTTPResponse(Integer code, String message, Object data, ParsingMode parsingMode, Headers headers) {
 		super(code, message, data);
 		this.parsingMode = parsingMode;
 		this.headers = new Headers();
+		if (headers != null)
+			headers.forEach((key, values) -> this.headers.put(key, new ArrayList<>(values)));
+	}
+
+	public HTTPResponse(Integer code, String message, Object data, ParsingMode parsingMode) {
+		this(code, message, data, parsingMode, null);
 	}
 
 	public HTTPResponse(int code, byte[] data) {
@@ -56,21 +72,21 @@ public class HTTPResponse extends JSONResponse {
 
 	@Override
 	public HTTPResponse code(Integer code) {
-		return new HTTPResponse(code, this.message, this.data, this.parsingMode);
+		return new HTTPResponse(code, this.message, this.data, this.parsingMode, this.headers);
 	}
 
 	@Override
 	public HTTPResponse message(String message) {
-		return new HTTPResponse(this.code, message, this.data, this.parsingMode);
+		return new HTTPResponse(this.code, message, this.data, this.parsingMode, this.headers);
 	}
 
 	@Override
 	public HTTPResponse data(Object data) {
-		return new HTTPResponse(this.code, this.message, data, this.parsingMode);
+		return new HTTPResponse(this.code, this.message, data, this.parsingMode, this.headers);
 	}
 
 	public HTTPResponse parsingMode(ParsingMode parsingMode) {
-		return new HTTPResponse(this.code, this.message, this.data, parsingMode);
+		return new HTTPResponse(this.code, this.message, this.data, parsingMode, this.headers);
 	}
 
 	public ParsingMode getParsingMode() {
@@ -78,11 +94,47 @@ public class HTTPResponse extends JSONResponse {
 	}
 
 	public HTTPResponse header(String key, String value) {
-		this.headers.add(key, value);
-		return this;
+		if (!shared) {
+			this.headers.add(key, value);
+			return this;
+		}
+		Headers headers = getHeaders();
+		headers.add(key, value);
+		return headers(headers);
+	}
+
+	protected HTTPResponse headers(Headers headers) {
+		return new HTTPResponse(this.code, this.message, this.data, this.parsingMode, headers);
 	}
 
 	public Headers getHeaders() {
+		if (!shared) return headers;
+		Headers headers = new Headers();
+		this.headers.forEach((key, values) -> headers.put(key, new ArrayList<>(values)));
 		return headers;
 	}
+
+	protected Headers headers() {
+		return headers;
+	}
+
+	public HTTPResponse shared() {
+		this.shared = true;
+		return this;
+	}
+
+	@JsonIgnore
+	public boolean isShared() {
+		return shared;
+	}
+
+	protected byte[] serialize(ObjectWriter writer) throws JsonProcessingException {
+		if (data != null) return writer.writeValueAsBytes(this);
+		Pair<ObjectWriter, byte[]> serialized = this.serialized;
+		if (serialized == null || serialized.getV1() != writer) {
+			serialized = new Pair<>(writer, writer.writeValueAsBytes(this));
+			this.serialized = serialized;
+		}
+		return serialized.getV2();
+	}
 }
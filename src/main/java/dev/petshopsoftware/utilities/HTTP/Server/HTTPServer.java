@@ -1,63 +1,105 @@
 package dev.petshopsoftware.utilities.HTTP.Server;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.sun.net.httpserver.*;
+import dev.petshopsoftware.utilities.JSON.JSON;
 import dev.petshopsoftware.utilities.JSON.ObjectBuilder;
 import dev.petshopsoftware.utilities.Logging.LogMessage;
 import dev.petshopsoftware.utilities.Logging.Logger;
 import dev.petshopsoftware.utilities.Util.InputChecker.InvalidInputException;
 import dev.petshopsoftware.utilities.Util.ParsingMode;
 import dev.petshopsoftware.utilities.Util.RandomUtil;
+import dev.petshopsoftware.utilities.Util.RequestIDGenerator;
 import dev.petshopsoftware.utilities.Util.ReflectionUtil;
-import dev.petshopsoftware.utilities.Util.StringUtils;
 import dev.petshopsoftware.utilities.Util.Types.Pair;
-import dev.petshopsoftware.utilities.Util.Types.Quad;
-import org.apache.http.impl.EnglishReasonPhraseCatalog;
 
 import javax.naming.NameNotFoundException;
 import javax.net.ssl.*;
-import javax.xml.bind.DatatypeConverter;
 import java.io.*;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.InetSocketAddress;
 import java.net.URI;
-import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.security.KeyStore;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class HTTPServer {
+	public static final int DEFAULT_THREADS = Runtime.getRuntime().availableProcessors() * 4;
+	public static final int DEFAULT_QUEUE_LIMIT = 1024;
+	public static final int DEFAULT_RESPONSE_BUFFER = 8192;
+	public static final int DEFAULT_COMPRESSION_THRESHOLD = 1024;
+	public static final long DEFAULT_MAX_BODY_SIZE = -1;
+	private static final int INITIAL_BODY_BUFFER = 64 * 1024;
+	public static final long DEFAULT_SHUTDOWN_TIMEOUT = 10000;
+	public static final String REQUEST_ID_HEADER = "X-Request-ID";
+	private static final HTTPResponse OPTIONS_RESPONSE = new HTTPResponse(200, new byte[0]).shared();
+	private static final Set<HTTPServer> ACTIVE_SERVERS = ConcurrentHashMap.newKeySet();
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(HTTPServer::shutdownAll, "http-shutdown"));
+	}
+
 	private final String id;
 	private final String subdomain;
 	private final String domain;
 	private final Logger logger;
+	private final AccessLogger accessLogger;
 	private final int port;
 	private final HttpServer server;
 	private final Map<String, Pair<Route, Method>> routes = new HashMap<>();
-	private final List<HTTPHandler> handlers = new LinkedList<>();
-	private List<String> sortedRoutes = new ArrayList<>();
-
-	public HTTPServer(String subdomain, String domain, int port, boolean ssl) {
+	private final RouteTree routeTree = new RouteTree();
+	private final List<HTTPHandler> handlers = new ArrayList<>();
+	private final List<RouteEntry> entries = new ArrayList<>();
+	private final AtomicInteger pending = new AtomicInteger();
+	private ExecutorMode executorMode = ExecutorMode.DIRECT;
+	private ExecutorService executor = null;
+	private int maxPending = -1;
+	private ObjectWriter writer = JSON.MAPPER.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	private boolean prettyPrint = false;
+	private int responseBufferSize = DEFAULT_RESPONSE_BUFFER;
+	private boolean compression = true;
+	private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
+	private boolean propagateRequestID = false;
+	private CORSPolicy corsPolicy = CORSPolicy.ALLOW_ALL;
+	private HTTPMetrics metrics = new HTTPMetrics();
+	private MultipartConfig multipartConfig = new MultipartConfig();
+	private long maxBodySize = DEFAULT_MAX_BODY_SIZE;
+	private final Set<StreamResponse> streams = ConcurrentHashMap.newKeySet();
+	private long shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+	private volatile boolean shuttingDown = false;
+
+	public HTTPServer(String subdomain, String domain, int port, boolean ssl, int backlog) {
 		try {
 			if (ssl)
-				this.server = HttpsServer.create(new InetSocketAddress(port), 0);
+				this.server = HttpsServer.create(new InetSocketAddress(port), backlog);
 			else
-				this.server = HttpServer.create(new InetSocketAddress(port), 0);
+				this.server = HttpServer.create(new InetSocketAddress(port), backlog);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
-		Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
 		this.id = (subdomain == null ? RandomUtil.generateIdentifier(8) : subdomain);
 		this.subdomain = subdomain;
 		this.domain = domain;
 		this.port = port;
 		this.logger = Logger.get("http-" + id);
+		this.accessLogger = new AccessLogger(logger);
 		init();
 	}
 
+	public HTTPServer(String subdomain, String domain, int port, boolean ssl) {
+		this(subdomain, domain, port, ssl, 0);
+	}
+
 	public HTTPServer(String subdomain, String domain, int port) {
 		this(subdomain, domain, port, true);
 	}
@@ -72,7 +114,7 @@ public class HTTPServer {
 		} catch (Exception e) {
 			logger.error(LogMessage.fromException(e));
 		}
-		server.createContext("/", this::handleRequest);
+		server.createContext("/", this::dispatchRequest);
 		logger.info("Server " + id + " initialized successfully.");
 	}
 
@@ -86,10 +128,58 @@ public class HTTPServer {
 		}
 	}
 
+	protected void dispatchRequest(HttpExchange exchange) {
+		if (shuttingDown) {
+			rejectRequest(exchange);
+			return;
+		}
+		int current = pending.incrementAndGet();
+		if (executor == null) {
+			try {
+				handleRequest(exchange);
+			} finally {
+				pending.decrementAndGet();
+			}
+			return;
+		}
+		if (maxPending >= 0 && current > maxPending) {
+			pending.decrementAndGet();
+			rejectRequest(exchange);
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					handleRequest(exchange);
+				} finally {
+					pending.decrementAndGet();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			pending.decrementAndGet();
+			rejectRequest(exchange);
+		}
+	}
+
+	protected void rejectRequest(HttpExchange exchange) {
+		try {
+			if (corsPolicy != null) corsPolicy.apply(exchange.getResponseHeaders());
+			if (shuttingDown) exchange.getResponseHeaders().set("Connection", "close");
+			sendResponse(exchange, getUnavailable(null));
+		} catch (IOException e) {
+			logger.error(new RuntimeException("Could not send response to client.", e));
+		} finally {
+			exchange.close();
+		}
+	}
+
 	protected void handleRequest(HttpExchange exchange) {
-		String requestID = RandomUtil.generateIdentifier(32);
+		long start = System.nanoTime();
+		String requestID = resolveRequestID(exchange);
 		HTTPData data = null;
 		HTTPResponse response = null;
+		HTTPMetrics metrics = this.metrics;
+		RouteMetrics routeMetrics = null;
 		try {
 			String path = exchange.getRequestURI().getPath();
 			HTTPMethod method;
@@ -98,63 +188,49 @@ public class HTTPServer {
 			} catch (IllegalArgumentException e) {
 				method = null;
 			}
-			Map<String, String> queryParams;
-			try {
-				queryParams = parseQuery(exchange.getRequestURI().getQuery());
-			} catch (UnsupportedEncodingException e) {
-				queryParams = null;
-			}
-			Route route;
-			Method invoked;
+			Map<String, String> queryParams = parseQuery(exchange.getRequestURI().getRawQuery());
+			RouteEntry entry;
 			Map<String, String> pathParams;
 			try {
-				Quad<String, Route, Method, Map<String, String>> resolvedRoute = resolveRoute(method, path);
-				route = resolvedRoute.getV2();
-				invoked = resolvedRoute.getV3();
-				pathParams = resolvedRoute.getV4();
+				Pair<RouteEntry, Map<String, String>> resolvedRoute = resolveRoute(method, path);
+				entry = resolvedRoute.getV1();
+				pathParams = resolvedRoute.getV2();
 			} catch (NameNotFoundException e) {
-				route = null;
-				invoked = null;
+				entry = null;
 				pathParams = null;
 			}
-			byte[] rawBody;
-			try {
-				rawBody = readBody(exchange);
-			} catch (IOException e) {
-				rawBody = null;
+			if (metrics != null) {
+				routeMetrics = metrics.route(entry);
+				metrics.start(routeMetrics);
 			}
-			data = new HTTPData(exchange, this, requestID, method, path, route, pathParams, queryParams, rawBody);
-			logger.info("IN: " + data.method() + " " + data.path() + " from " + data.ip() + ".");
-			logger.debug(data.toString());
+			Route route = entry == null ? null : entry.getRoute();
+			data = new HTTPData(exchange, this, requestID, method, path, route, pathParams, queryParams);
+			data.entry(entry);
+			accessLogger.in(data);
 			if (data.method() == null)
 				response = getInvalidMethod(data);
-			else if (data.queryParams() == null)
-				response = getInvalidQuery(data);
-			else if (data.bodyParseError != null)
-				response = getInvalidBody(data);
 			else if (data.method() == HTTPMethod.OPTIONS)
 				response = getOptionsResponse(data);
-			else if (data.route() == null || invoked == null || data.pathParams() == null)
+			else if (entry == null || data.pathParams() == null)
 				response = getNotFound(data);
+			else if (data.maxBodySize() >= 0 && data.contentLength() > data.maxBodySize())
+				response = getPayloadTooLarge(data);
 			else {
-				for (HTTPHandler handler : handlers) {
-					if (!handler.matchesRoute(data, route, invoked)) continue;
-					HTTPResponse handlerResponse = handler.handle(data, invoked);
-					if (handlerResponse != null) {
-						response = handlerResponse;
-						break;
-					}
+				try {
+					response = entry.getPipeline().invoke(data);
+				} catch (PayloadTooLargeException e) {
+					response = getPayloadTooLarge(data);
+				} catch (InvalidBodyException e) {
+					response = getInvalidBody(data);
+				} catch (InvalidQueryException e) {
+					response = getInvalidQuery(data);
+				} catch (InvalidInputException e) {
+					response = HTTPResponse.BAD_REQUEST.message(e.getMessage());
+				} catch (HTTPResponseException e) {
+					response = e.getResponse();
+				} catch (Exception e) {
+					throw new RuntimeException("An internal error occured.", e);
 				}
-				if (response == null)
-					try {
-						response = (HTTPResponse) invoked.invoke(null, data);
-					} catch (Exception e) {
-						if (e.getCause() instanceof InvalidInputException)
-							response = HTTPResponse.BAD_REQUEST.message(e.getCause().getMessage());
-						else if (e.getCause() instanceof HTTPResponseException)
-							response = ((HTTPResponseException) e.getCause()).getResponse();
-						else throw new RuntimeException("An internal error occured.", e);
-					}
 			}
 			if (response == null) throw new Exception("Failed to assign request response.");
 		} catch (Exception e) {
@@ -163,124 +239,183 @@ public class HTTPServer {
 			logger.error(new RuntimeException("An exception occurred while handling request.", ex));
 			response = getInternalError(null);
 		}
-		response.header("Access-Control-Allow-Origin", "*")
-				.header("Access-Control-Allow-Methods", "*")
-				.header("Access-Control-Allow-Headers", "*")
-				.header("Access-Control-Max-Age", "86400")
-				.header("X-Request-ID", requestID);
+		if (corsPolicy != null) corsPolicy.apply(exchange.getResponseHeaders());
+		exchange.getResponseHeaders().set(REQUEST_ID_HEADER, requestID);
 		try {
-			byte[] bytes = sendResponse(exchange, response);
-			if (data != null) logger.info("OUT: " + data.method() + " " + data.path() + " to " + data.ip() + ".");
-			else logger.warn("OUT: Failed to capture request data for " + requestID + ".");
-			StringBuilder builder = new StringBuilder();
-			builder.append(exchange.getResponseCode()).append(" ").append(EnglishReasonPhraseCatalog.INSTANCE.getReason(exchange.getResponseCode(), Locale.ENGLISH)).append("\n");
-			builder.append("REQUEST ID: ").append(requestID).append("\n");
-			if (!exchange.getRequestHeaders().isEmpty()) {
-				builder.append("Headers:\n");
-				StringBuilder headerBuilder = new StringBuilder();
-				exchange.getResponseHeaders().forEach((key, values) -> values.forEach(value -> headerBuilder.append(key).append(": ").append(value).append("\n")));
-				builder.append(StringUtils.padLeft(headerBuilder.toString(), 2)).append("\n");
-			}
-			if (bytes.length > 0) {
-				builder.append("Body:\n");
-				StringBuilder bodyBuilder = new StringBuilder();
-				if (response.getParsingMode() == ParsingMode.RAW)
-					bodyBuilder.append(DatatypeConverter.printHexBinary(bytes));
-				else bodyBuilder.append(new String(bytes));
-				builder.append(StringUtils.padLeft(bodyBuilder.toString(), 2));
-			}
-			logger.debug(builder.toString());
+			long bytes = sendResponse(exchange, response, negotiateEncoding(data, response));
+			accessLogger.out(requestID, data, response, exchange.getResponseCode(), exchange.getResponseHeaders(), bytes, System.nanoTime() - start);
 		} catch (IOException e) {
 			logger.error(new RuntimeException("Could not send response to client.", e));
+		} finally {
+			if (routeMetrics != null)
+				metrics.end(routeMetrics, exchange.getResponseCode(), System.nanoTime() - start);
+			if (data != null) {
+				HTTPData released = data;
+				if (response instanceof StreamResponse) ((StreamResponse) response).onClose(() -> release(released));
+				else release(data);
+			}
 		}
 	}
 
-	protected Quad<String, Route, Method, Map<String, String>> resolveRoute(HTTPMethod method, String path) throws NameNotFoundException {
-		String[] pathSegments = path.split("/");
-		for (String routeID : sortedRoutes) {
-			String[] routeIDParts = routeID.split(" ");
-			HTTPMethod routeMethod = HTTPMethod.valueOf(routeIDParts[0]);
-			if (method != routeMethod) continue;
-			String[] routeSegments = routeIDParts[1].split("/");
-			if (pathSegments.length != routeSegments.length) continue;
-			Map<String, String> pathParams = new HashMap<>();
-			boolean found = true;
-			for (int i = 0; i < pathSegments.length; i++) {
-				String pathSegment = pathSegments[i];
-				String routeSegment = routeSegments[i];
-				if (routeSegment.startsWith(":"))
-					pathParams.put(routeSegment.substring(1), pathSegment);
-				else if (!pathSegment.equals(routeSegment)) {
-					found = false;
-					break;
-				}
-			}
-			if (!found) continue;
-			Pair<Route, Method> routeData = routes.get(routeID);
-			Route routeInfo = routeData.getV1();
-			Method route = routeData.getV2();
-			return new Quad<>(routeID.split(" ")[1], routeInfo, route, pathParams);
+	protected void release(HTTPData data) {
+		try {
+			data.release();
+		} catch (IOException e) {
+			logger.error(new RuntimeException("Could not delete multipart temp files.", e));
 		}
-		throw new NameNotFoundException("Could not find route " + method + " " + path + ".");
 	}
 
-	protected Map<String, String> parseQuery(String query) throws UnsupportedEncodingException {
-		Map<String, String> result = new HashMap<>();
-		if (query == null || query.isEmpty()) {
-			return result;
-		}
-		String[] pairs = query.split("&");
-		for (String pair : pairs) {
-			int idx = pair.indexOf("=");
-			String key = idx > 0 ? URLDecoder.decode(pair.substring(0, idx), "UTF-8") : pair;
-			String value = idx > 0 && pair.length() > idx + 1 ? URLDecoder.decode(pair.substring(idx + 1), "UTF-8") : null;
-			result.put(key, value);
+	protected String resolveRequestID(HttpExchange exchange) {
+		if (propagateRequestID) {
+			String requestID = exchange.getRequestHeaders().getFirst(REQUEST_ID_HEADER);
+			if (RequestIDGenerator.isValid(requestID)) return requestID;
 		}
-		return result;
+		return RequestIDGenerator.generate();
+	}
 
+	protected Pair<RouteEntry, Map<String, String>> resolveRoute(HTTPMethod method, String path) throws NameNotFoundException {
+		Pair<RouteEntry, Map<String, String>> resolvedRoute = routeTree.resolve(method, path);
+		if (resolvedRoute == null)
+			throw new NameNotFoundException("Could not find route " + method + " " + path + ".");
+		return resolvedRoute;
 	}
 
-	protected byte[] readBody(HttpExchange exchange) throws IOException {
+	protected Map<String, String> parseQuery(String rawQuery) {
+		return new QueryParams(rawQuery);
+	}
+
+	protected byte[] readBody(HttpExchange exchange, long maxBodySize) throws IOException {
 		InputStream inputStream = exchange.getRequestBody();
-		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
-		int len;
-		byte[] data = new byte[1024];
-		while ((len = inputStream.read(data, 0, data.length)) != -1)
-			buffer.write(data, 0, len);
-		buffer.flush();
-		return buffer.toByteArray();
+		long contentLength = -1;
+		String header = exchange.getRequestHeaders().getFirst("Content-Length");
+		if (header != null)
+			try {
+				contentLength = Long.parseLong(header.trim());
+			} catch (NumberFormatException ignored) {
+			}
+		long limit = maxBodySize < 0 ? Integer.MAX_VALUE - 8 : Math.min(maxBodySize, Integer.MAX_VALUE - 8);
+		if (contentLength > limit)
+			throw new PayloadTooLargeException("Request body exceeds " + limit + " bytes.", limit);
+		long expected = contentLength >= 0 ? contentLength : limit;
+		byte[] buffer = new byte[(int) Math.min(contentLength >= 0 ? contentLength : 1024, Math.min(INITIAL_BODY_BUFFER, limit))];
+		int count = 0;
+		while (true) {
+			if (count == buffer.length) {
+				if (count >= expected) {
+					if (inputStream.read() == -1) break;
+					throw new PayloadTooLargeException("Request body exceeds " + limit + " bytes.", limit);
+				}
+				buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(buffer.length * 2L, 1024), expected));
+			}
+			int read = inputStream.read(buffer, count, buffer.length - count);
+			if (read == -1) break;
+			count += read;
+		}
+		return count == buffer.length ? buffer : Arrays.copyOf(buffer, count);
+	}
+
+	protected byte[] readBody(HttpExchange exchange) throws IOException {
+		return readBody(exchange, maxBodySize);
 	}
 
 	protected void send(HttpExchange exchange, int code, byte[] bytes) throws IOException {
 		if (bytes == null) bytes = new byte[0];
-		exchange.sendResponseHeaders(code, bytes.length);
+		exchange.sendResponseHeaders(code, bytes.length == 0 ? -1 : bytes.length);
 		OutputStream os = exchange.getResponseBody();
 		os.write(bytes);
 		os.close();
 	}
 
-	protected byte[] sendResponse(HttpExchange exchange, HTTPResponse response) throws IOException {
-		byte[] bytes = null;
-		if (response.getParsingMode() == ParsingMode.RAW)
-			bytes = (byte[]) response.getData();
-		else if (response.getParsingMode() == ParsingMode.STRING)
-			bytes = ((String) response.getData()).getBytes(StandardCharsets.UTF_8);
-		else if (response.getParsingMode() == ParsingMode.JSON) {
-			bytes = response.toString().getBytes(StandardCharsets.UTF_8);
-			if (!response.getHeaders().containsKey("Content-Type"))
-				response.header("Content-Type", "application/json");
+	protected long sendResponse(HttpExchange exchange, HTTPResponse response, ContentEncoding encoding) throws IOException {
+		if (response instanceof FileResponse)
+			return sendFile(exchange, (FileResponse) response);
+		if (response instanceof StreamResponse)
+			return sendStream(exchange, (StreamResponse) response);
+		Headers headers = exchange.getResponseHeaders();
+		headers.putAll(response.headers());
+		if (response.getParsingMode() == ParsingMode.JSON && !headers.containsKey("Content-Type"))
+			headers.set("Content-Type", "application/json");
+		if (encoding != null) {
+			if (headers.containsKey("Content-Encoding") || !ContentEncoding.isCompressible(headers.getFirst("Content-Type")))
+				encoding = null;
+			else headers.add("Vary", "Accept-Encoding");
 		}
-		exchange.getResponseHeaders().putAll(response.getHeaders());
-		send(exchange, response.getCode(), bytes);
-		return bytes;
+		ResponseOutputStream outputStream = new ResponseOutputStream(exchange, response.getCode(), responseBufferSize, encoding, compressionThreshold);
+		try {
+			writeBody(outputStream, response);
+		} catch (IOException | RuntimeException e) {
+			boolean committed = outputStream.isCommitted();
+			outputStream.abort();
+			if (committed) throw e;
+			logger.error(new RuntimeException("Failed to write response body.", e));
+			return sendResponse(exchange, getInternalError(null), null);
+		}
+		outputStream.close();
+		return outputStream.getCount();
+	}
+
+	protected long sendFile(HttpExchange exchange, FileResponse response) throws IOException {
+		exchange.getResponseHeaders().putAll(response.headers());
+		int code = response.getCode();
+		if (response.getLength() <= 0 || code == 304 || "HEAD".equalsIgnoreCase(exchange.getRequestMethod())) {
+			if (code != 304) exchange.getResponseHeaders().set("Content-Length", String.valueOf(Math.max(response.getLength(), 0)));
+			exchange.sendResponseHeaders(code, -1);
+			exchange.close();
+			return 0;
+		}
+		exchange.sendResponseHeaders(code, response.getLength());
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			response.transferTo(outputStream);
+		}
+		return response.getLength();
+	}
+
+	protected long sendStream(HttpExchange exchange, StreamResponse response) throws IOException {
+		Headers headers = exchange.getResponseHeaders();
+		headers.putAll(response.headers());
+		if (!headers.containsKey("Content-Type")) headers.set("Content-Type", response.getContentType());
+		if (!headers.containsKey("Cache-Control")) headers.set("Cache-Control", "no-cache");
+		headers.set("X-Accel-Buffering", "no");
+		if ("HEAD".equalsIgnoreCase(exchange.getRequestMethod())) {
+			exchange.sendResponseHeaders(response.getCode(), -1);
+			exchange.close();
+			response.abort();
+			return 0;
+		}
+		try {
+			exchange.sendResponseHeaders(response.getCode(), 0);
+		} catch (IOException e) {
+			response.abort();
+			throw e;
+		}
+		streams.add(response);
+		response.onClose(() -> streams.remove(response));
+		response.attach(exchange, exchange.getResponseBody());
+		if (shuttingDown) response.close();
+		return 0;
+	}
+
+	protected long sendResponse(HttpExchange exchange, HTTPResponse response) throws IOException {
+		return sendResponse(exchange, response, null);
 	}
 
-	protected void sortRoutes() {
-		sortedRoutes = routes.keySet().stream().sorted((r1, r2) -> {
-			int c1 = (int) r1.chars().filter(c -> c == ':').count();
-			int c2 = (int) r2.chars().filter(c -> c == ':').count();
-			return Integer.compare(c1, c2);
-		}).collect(Collectors.toList());
+	protected ContentEncoding negotiateEncoding(HTTPData data, HTTPResponse response) {
+		if (!compression || data == null) return null;
+		if (data.route() != null && !data.route().compress()) return null;
+		return ContentEncoding.negotiate(data.headers().getFirst("Accept-Encoding"));
+	}
+
+	protected void writeBody(OutputStream outputStream, HTTPResponse response) throws IOException {
+		if (response.getParsingMode() == ParsingMode.RAW) {
+			if (response.getData() != null)
+				outputStream.write((byte[]) response.getData());
+		} else if (response.getParsingMode() == ParsingMode.STRING) {
+			if (response.getData() != null)
+				outputStream.write(((String) response.getData()).getBytes(StandardCharsets.UTF_8));
+		} else if (response.getParsingMode() == ParsingMode.JSON) {
+			if (response.getData() == null) outputStream.write(response.serialize(writer));
+			else writer.writeValue(outputStream, response);
+		}
 	}
 
 	public HTTPServer routers(String basePath, Class<?>... routers) {
@@ -301,8 +436,8 @@ public class HTTPServer {
 					logger.error("Cannot register route " + id + ": method must return HTTPResponse.");
 					continue;
 				}
-				if (route.getParameterCount() != 1 || route.getParameterTypes()[0] != HTTPData.class) {
-					logger.error("Cannot register route " + id + ": method must only take HTTPData as parameter.");
+				if (route.getParameterCount() < 1 || route.getParameterCount() > 2 || route.getParameterTypes()[0] != HTTPData.class) {
+					logger.error("Cannot register route " + id + ": method must take HTTPData and optionally a body type as parameters.");
 					continue;
 				}
 				if (!validatePath(path)) {
@@ -313,20 +448,116 @@ public class HTTPServer {
 					logger.error("Cannot register route " + id + ": another route is already defined at the specified path.");
 					continue;
 				}
-				this.routes.put(id, new Pair<>(info, route));
-				logger.info("Route " + id + " registered successfully.");
+				RouteInvoker invoker;
+				try {
+					invoker = RouteInvoker.of(route);
+				} catch (ReflectiveOperationException e) {
+					logger.error(new RuntimeException("Cannot register route " + id + ": method could not be linked.", e));
+					continue;
+				}
+				register(new RouteEntry(path, info, route, invoker));
 			}
 		}
-		sortRoutes();
 		return this;
 	}
 
+	protected boolean register(RouteEntry entry) {
+		if (!routeTree.add(entry)) {
+			logger.error("Cannot register route " + entry.getID() + ": another route is already defined at the specified path.");
+			return false;
+		}
+		entry.pipeline(RoutePipeline.of(entry, handlers));
+		entries.add(entry);
+		if (metrics != null) metrics.register(entry);
+		this.routes.put(entry.getID(), new Pair<>(entry.getRoute(), entry.getMethod()));
+		logger.info("Route " + entry.getID() + " registered successfully.");
+		return true;
+	}
+
 	public HTTPServer routers(Class<?>... routers) {
 		return routers("", routers);
 	}
 
+	public HTTPServer staticFiles(String path, StaticFiles files) {
+		String base = path.substring(0, RouteTree.trimEnd(path));
+		Method method = StaticFiles.method();
+		for (HTTPMethod httpMethod : new HTTPMethod[]{HTTPMethod.GET, HTTPMethod.HEAD})
+			register(new RouteEntry(base + "/*", StaticFiles.route(base + "/*", httpMethod), method, files));
+		return this;
+	}
+
+	public HTTPServer staticFiles(String path, Path directory) {
+		return staticFiles(path, new StaticFiles(directory));
+	}
+
+	public HTTPServer executor(ExecutorMode mode, int threads, int queueLimit) {
+		if (mode == ExecutorMode.VIRTUAL && !ExecutorMode.isVirtualAvailable()) {
+			logger.warn("Virtual threads are not supported by this Java runtime, falling back to " + ExecutorMode.FORK_JOIN + ".");
+			mode = ExecutorMode.FORK_JOIN;
+		}
+		ExecutorService previous = this.executor;
+		this.executor = mode.create("http-" + id + "-worker", threads);
+		this.executorMode = mode;
+		this.maxPending = queueLimit < 0 ? -1 : threads + queueLimit;
+		if (previous != null) previous.shutdown();
+		logger.info("Server " + id + " is using " + mode + " executor (threads: " + threads + ", queue limit: " + queueLimit + ").");
+		return this;
+	}
+
+	public HTTPServer executor(ExecutorMode mode) {
+		return executor(mode, DEFAULT_THREADS, DEFAULT_QUEUE_LIMIT);
+	}
+
+	public HTTPServer prettyPrint(boolean prettyPrint) {
+		this.prettyPrint = prettyPrint;
+		this.writer = (prettyPrint ? JSON.MAPPER.writerWithDefaultPrettyPrinter() : JSON.MAPPER.writer()).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		return this;
+	}
+
+	public HTTPServer responseBufferSize(int responseBufferSize) {
+		this.responseBufferSize = responseBufferSize;
+		return this;
+	}
+
+	public HTTPServer compression(boolean compression, int compressionThreshold) {
+		this.compression = compression;
+		this.compressionThreshold = compressionThreshold;
+		return this;
+	}
+
+	public HTTPServer compression(boolean compression) {
+		return compression(compression, compressionThreshold);
+	}
+
+	public HTTPServer propagateRequestID(boolean propagateRequestID) {
+		this.propagateRequestID = propagateRequestID;
+		return this;
+	}
+
+	public HTTPServer cors(CORSPolicy corsPolicy) {
+		this.corsPolicy = corsPolicy;
+		return this;
+	}
+
+	public HTTPServer maxBodySize(long maxBodySize) {
+		this.maxBodySize = maxBodySize;
+		return this;
+	}
+
+	public HTTPServer multipart(MultipartConfig multipartConfig) {
+		this.multipartConfig = multipartConfig;
+		return this;
+	}
+
+	public HTTPServer metrics(boolean enabled) {
+		this.metrics = enabled ? (metrics == null ? new HTTPMetrics() : metrics) : null;
+		return this;
+	}
+
 	public HTTPServer handlers(HTTPHandler... handlers) {
 		this.handlers.addAll(Arrays.asList(handlers));
+		for (RouteEntry entry : entries)
+			entry.pipeline(RoutePipeline.of(entry, this.handlers));
 		return this;
 	}
 
@@ -383,14 +614,91 @@ public class HTTPServer {
 
 	public void start() {
 		server.start();
+		ACTIVE_SERVERS.add(this);
 		logger.info("Server started successfully at http://localhost:" + port + (subdomain != null && domain != null ? " (https://" + subdomain + "." + domain + ")" : "") + ".");
 	}
 
 	public void stop() {
+		shuttingDown = true;
+		ACTIVE_SERVERS.remove(this);
 		server.stop(0);
+		for (StreamResponse stream : streams)
+			stream.abort();
+		if (executor != null) executor.shutdown();
+		accessLogger.shutdown();
 		logger.info("Server stopped successfully.");
 	}
 
+	public Pair<Integer, Integer> shutdown(long timeout, TimeUnit unit) {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		shuttingDown = true;
+		ACTIVE_SERVERS.remove(this);
+		int inFlight = pending.get();
+		logger.info("Server is shutting down, draining " + inFlight + " in-flight request(s) and " + streams.size() + " stream(s).");
+		for (StreamResponse stream : streams)
+			stream.close();
+		try {
+			while (pending.get() > 0 && deadline - System.nanoTime() > 0)
+				Thread.sleep(10);
+			int aborted = pending.get();
+			if (executor != null) {
+				if (aborted > 0) executor.shutdownNow();
+				else {
+					executor.shutdown();
+					executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+				}
+			}
+			for (StreamResponse stream : streams)
+				stream.abort();
+			server.stop(0);
+			int drained = Math.max(0, inFlight - aborted);
+			accessLogger.shutdown();
+			if (aborted > 0)
+				logger.warn("Server stopped after shutdown deadline, " + drained + " request(s) drained and " + aborted + " aborted.");
+			else logger.info("Server stopped gracefully, " + drained + " request(s) drained.");
+			return new Pair<>(drained, aborted);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			if (executor != null) executor.shutdownNow();
+			server.stop(0);
+			int aborted = pending.get();
+			return new Pair<>(Math.max(0, inFlight - aborted), aborted);
+		}
+	}
+
+	public Pair<Integer, Integer> shutdown() {
+		return shutdown(shutdownTimeout, TimeUnit.MILLISECONDS);
+	}
+
+	public static void shutdownAll() {
+		List<Thread> threads = new ArrayList<>();
+		for (HTTPServer server : ACTIVE_SERVERS) {
+			Thread thread = new Thread(server::shutdown, "http-" + server.getID() + "-shutdown");
+			thread.start();
+			threads.add(thread);
+		}
+		for (Thread thread : threads)
+			try {
+				thread.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+	}
+
+	public HTTPServer shutdownTimeout(long timeout, TimeUnit unit) {
+		this.shutdownTimeout = unit.toMillis(timeout);
+		return this;
+	}
+
+	public long getShutdownTimeout() {
+		return shutdownTimeout;
+	}
+
+	public boolean isShuttingDown() {
+		return shuttingDown;
+	}
+
 	public String getID() {
 		return id;
 	}
@@ -411,10 +719,66 @@ public class HTTPServer {
 		return logger;
 	}
 
+	public AccessLogger getAccessLogger() {
+		return accessLogger;
+	}
+
 	public HttpServer getServer() {
 		return server;
 	}
 
+	public boolean isPrettyPrint() {
+		return prettyPrint;
+	}
+
+	public ObjectWriter getWriter() {
+		return writer;
+	}
+
+	public int getResponseBufferSize() {
+		return responseBufferSize;
+	}
+
+	public boolean isCompression() {
+		return compression;
+	}
+
+	public int getCompressionThreshold() {
+		return compressionThreshold;
+	}
+
+	public boolean isPropagateRequestID() {
+		return propagateRequestID;
+	}
+
+	public long getMaxBodySize() {
+		return maxBodySize;
+	}
+
+	public MultipartConfig getMultipartConfig() {
+		return multipartConfig;
+	}
+
+	public HTTPMetrics getMetrics() {
+		return metrics;
+	}
+
+	public CORSPolicy getCORSPolicy() {
+		return corsPolicy;
+	}
+
+	public ExecutorMode getExecutorMode() {
+		return executorMode;
+	}
+
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+
+	public int getPendingRequests() {
+		return pending.get();
+	}
+
 	public Map<String, Pair<Route, Method>> getRoutes() {
 		return routes;
 	}
@@ -439,15 +803,23 @@ public class HTTPServer {
 		return HTTPResponse.INVALID_BODY;
 	}
 
+	public HTTPResponse getPayloadTooLarge(HTTPData data) {
+		return HTTPResponse.PAYLOAD_TOO_LARGE;
+	}
+
 	public HTTPResponse getInvalidQuery(HTTPData data) {
 		return HTTPResponse.BAD_REQUEST.message("Invalid query.");
 	}
 
+	public HTTPResponse getUnavailable(HTTPData data) {
+		return HTTPResponse.UNAVAILABLE;
+	}
+
 	public HTTPResponse getInternalError(HTTPData data) {
 		return HTTPResponse.INTERNAL_ERROR;
 	}
 
 	public HTTPResponse getOptionsResponse(HTTPData data) {
-		return new HTTPResponse(200, new byte[0]);
+		return OPTIONS_RESPONSE;
 	}
 }
@@ -0,0 +1,9 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+public class InvalidBodyException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidBodyException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,9 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+public class InvalidQueryException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidQueryException(String message) {
+		super(message);
+	}
+}
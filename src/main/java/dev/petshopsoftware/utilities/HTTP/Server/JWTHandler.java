@@ -0,0 +1,60 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import dev.petshopsoftware.utilities.JWT.JWTFactory;
+import dev.petshopsoftware.utilities.JWT.JWTPayload;
+
+import java.lang.reflect.Method;
+import java.util.function.BiPredicate;
+
+public class JWTHandler implements HTTPHandler {
+	private final JWTFactory jwtFactory;
+	private BiPredicate<Route, Method> filter = (route, method) -> true;
+	private boolean required = true;
+
+	public JWTHandler(JWTFactory jwtFactory) {
+		this.jwtFactory = jwtFactory;
+	}
+
+	public JWTHandler filter(BiPredicate<Route, Method> filter) {
+		this.filter = filter;
+		return this;
+	}
+
+	public JWTHandler required(boolean required) {
+		this.required = required;
+		return this;
+	}
+
+	@Override
+	public boolean matchesRoute(Route route, Method method) {
+		return filter.test(route, method);
+	}
+
+	@Override
+	public HTTPResponse handle(HTTPData data, Method method) {
+		String subject = authenticate(data.headers().getFirst("Authorization"));
+		if (subject != null) data.subject(subject);
+		else if (required) return HTTPResponse.UNAUTHORIZED;
+		return null;
+	}
+
+	protected String authenticate(String authorization) {
+		if (authorization == null || !authorization.regionMatches(true, 0, "Bearer ", 0, 7)) return null;
+		String jwt = authorization.substring(7).trim();
+		try {
+			if (!jwtFactory.validate(jwt)) return null;
+			JWTPayload payload = JWTFactory.extractJWTPayload(jwt);
+			return payload == null ? null : payload.getSub();
+		} catch (RuntimeException e) {
+			return null;
+		}
+	}
+
+	public JWTFactory getJWTFactory() {
+		return jwtFactory;
+	}
+
+	public boolean isRequired() {
+		return required;
+	}
+}
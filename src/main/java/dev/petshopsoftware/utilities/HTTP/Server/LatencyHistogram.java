@@ -0,0 +1,95 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int MAX_VALUE_BITS = 40;
+	private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+	private static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+	static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT << 1) return (int) value;
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+	}
+
+	static long lowerBound(int index) {
+		if (index < SUB_BUCKET_COUNT << 1) return index;
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		return (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+	}
+
+	static long upperBound(int index) {
+		if (index < SUB_BUCKET_COUNT << 1) return index;
+		return lowerBound(index) + (1L << (index / SUB_BUCKET_COUNT - 1)) - 1;
+	}
+
+	public void record(long nanos) {
+		long value = Math.min(Math.max(nanos, 0), MAX_VALUE);
+		counts.incrementAndGet(indexOf(value));
+		count.increment();
+		sum.add(value);
+		max.accumulate(value);
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getSum() {
+		return sum.sum();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public double getMean() {
+		long count = getCount();
+		return count == 0 ? 0 : (double) getSum() / count;
+	}
+
+	public long getPercentile(double percentile) {
+		return getPercentiles(percentile)[0];
+	}
+
+	public long[] getPercentiles(double... percentiles) {
+		long[] snapshot = new long[BUCKET_COUNT];
+		long total = 0;
+		for (int i = 0; i < BUCKET_COUNT; i++) {
+			snapshot[i] = counts.get(i);
+			total += snapshot[i];
+		}
+		long[] values = new long[percentiles.length];
+		if (total == 0) return values;
+		for (int p = 0; p < percentiles.length; p++) {
+			long target = Math.max(1, (long) Math.ceil(Math.min(Math.max(percentiles[p], 0), 1) * total));
+			long seen = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				seen += snapshot[i];
+				if (seen >= target) {
+					values[p] = Math.min(upperBound(i), getMax());
+					break;
+				}
+			}
+		}
+		return values;
+	}
+
+	public void reset() {
+		for (int i = 0; i < BUCKET_COUNT; i++)
+			counts.set(i, 0);
+		count.reset();
+		sum.reset();
+		max.reset();
+	}
+}
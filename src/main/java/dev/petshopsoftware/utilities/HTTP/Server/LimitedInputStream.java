@@ -0,0 +1,51 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class LimitedInputStream extends FilterInputStream {
+	private final long limit;
+	private long count = 0;
+
+	public LimitedInputStream(InputStream inputStream, long limit) {
+		super(inputStream);
+		this.limit = limit;
+	}
+
+	@Override
+	public int read() throws IOException {
+		int b = super.read();
+		if (b != -1) count(1);
+		return b;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int read = super.read(b, off, len);
+		if (read > 0) count(read);
+		return read;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long skipped = super.skip(n);
+		if (skipped > 0) count(skipped);
+		return skipped;
+	}
+
+	@Override
+	public boolean markSupported() {
+		return false;
+	}
+
+	private void count(long read) {
+		count += read;
+		if (count > limit)
+			throw new PayloadTooLargeException("Request body exceeds " + limit + " bytes.", limit);
+	}
+
+	public long getCount() {
+		return count;
+	}
+}
@@ -0,0 +1,12 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import dev.petshopsoftware.utilities.Util.ParsingMode;
+
+public class MetricsRouter {
+	@Route(path = "/metrics", method = HTTPMethod.GET, parsingMode = ParsingMode.RAW)
+	public static HTTPResponse metrics(HTTPData data) {
+		HTTPMetrics metrics = data.server().getMetrics();
+		if (metrics == null) return HTTPResponse.NOT_FOUND;
+		return new HTTPResponse(200, metrics.toPrometheus()).header("Content-Type", HTTPMetrics.PROMETHEUS_CONTENT_TYPE);
+	}
+}
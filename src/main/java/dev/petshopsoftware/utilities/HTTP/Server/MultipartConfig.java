@@ -0,0 +1,72 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.nio.file.Path;
+
+public class MultipartConfig {
+	public static final long DEFAULT_MAX_REQUEST_SIZE = 64L * 1024 * 1024;
+	public static final long DEFAULT_MAX_PART_SIZE = 32L * 1024 * 1024;
+	public static final int DEFAULT_MAX_PARTS = 64;
+	public static final int DEFAULT_SPILL_THRESHOLD = 64 * 1024;
+	public static final int DEFAULT_MAX_HEADER_SIZE = 16 * 1024;
+
+	private long maxRequestSize = DEFAULT_MAX_REQUEST_SIZE;
+	private long maxPartSize = DEFAULT_MAX_PART_SIZE;
+	private int maxParts = DEFAULT_MAX_PARTS;
+	private int spillThreshold = DEFAULT_SPILL_THRESHOLD;
+	private int maxHeaderSize = DEFAULT_MAX_HEADER_SIZE;
+	private Path tempDirectory = null;
+
+	public MultipartConfig maxRequestSize(long maxRequestSize) {
+		this.maxRequestSize = maxRequestSize;
+		return this;
+	}
+
+	public MultipartConfig maxPartSize(long maxPartSize) {
+		this.maxPartSize = maxPartSize;
+		return this;
+	}
+
+	public MultipartConfig maxParts(int maxParts) {
+		this.maxParts = maxParts;
+		return this;
+	}
+
+	public MultipartConfig spillThreshold(int spillThreshold) {
+		this.spillThreshold = spillThreshold;
+		return this;
+	}
+
+	public MultipartConfig maxHeaderSize(int maxHeaderSize) {
+		this.maxHeaderSize = maxHeaderSize;
+		return this;
+	}
+
+	public MultipartConfig tempDirectory(Path tempDirectory) {
+		this.tempDirectory = tempDirectory;
+		return this;
+	}
+
+	public long getMaxRequestSize() {
+		return maxRequestSize;
+	}
+
+	public long getMaxPartSize() {
+		return maxPartSize;
+	}
+
+	public int getMaxParts() {
+		return maxParts;
+	}
+
+	public int getSpillThreshold() {
+		return spillThreshold;
+	}
+
+	public int getMaxHeaderSize() {
+		return maxHeaderSize;
+	}
+
+	public Path getTempDirectory() {
+		return tempDirectory;
+	}
+}
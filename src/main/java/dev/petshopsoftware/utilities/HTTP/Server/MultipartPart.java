@@ -0,0 +1,88 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.sun.net.httpserver.Headers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+public class MultipartPart {
+	private final Headers headers;
+	private final String name;
+	private final String filename;
+	private final byte[] bytes;
+	private final long size;
+	private Path file;
+
+	public MultipartPart(Headers headers, String name, String filename, byte[] bytes, Path file, long size) {
+		this.headers = headers;
+		this.name = name;
+		this.filename = filename;
+		this.bytes = bytes;
+		this.file = file;
+		this.size = size;
+	}
+
+	public InputStream getInputStream() throws IOException {
+		if (bytes != null) return new ByteArrayInputStream(bytes);
+		return Files.newInputStream(file);
+	}
+
+	public byte[] getBytes() throws IOException {
+		if (bytes != null) return bytes;
+		return Files.readAllBytes(file);
+	}
+
+	public String getString() throws IOException {
+		return new String(getBytes(), StandardCharsets.UTF_8);
+	}
+
+	public synchronized Path moveTo(Path target) throws IOException {
+		if (bytes != null) Files.write(target, bytes);
+		else {
+			Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+			file = null;
+		}
+		return target;
+	}
+
+	public synchronized void delete() throws IOException {
+		if (file != null) Files.deleteIfExists(file);
+	}
+
+	public boolean isInMemory() {
+		return bytes != null;
+	}
+
+	public boolean isFile() {
+		return filename != null;
+	}
+
+	public Headers getHeaders() {
+		return headers;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getFilename() {
+		return filename;
+	}
+
+	public String getContentType() {
+		return headers.getFirst("Content-Type");
+	}
+
+	public synchronized Path getFile() {
+		return file;
+	}
+
+	public long getSize() {
+		return size;
+	}
+}
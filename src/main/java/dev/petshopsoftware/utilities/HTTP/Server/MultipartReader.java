@@ -0,0 +1,230 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.sun.net.httpserver.Headers;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public class MultipartReader implements Closeable {
+	private static final int BUFFER_SIZE = 16 * 1024;
+
+	private final InputStream inputStream;
+	private final MultipartConfig config;
+	private final byte[] delimiter;
+	private final byte[] buffer;
+	private final List<MultipartPart> parts = new ArrayList<>();
+	private int position = 0;
+	private int limit = 0;
+	private long total = 0;
+	private boolean eof = false;
+	private boolean started = false;
+	private boolean finished = false;
+
+	public MultipartReader(InputStream inputStream, String boundary, MultipartConfig config) {
+		this.inputStream = inputStream;
+		this.config = config;
+		this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+		this.buffer = new byte[Math.max(BUFFER_SIZE, delimiter.length * 2)];
+		this.buffer[limit++] = '\r';
+		this.buffer[limit++] = '\n';
+	}
+
+	public static String boundary(String contentType) {
+		if (contentType == null || !contentType.toLowerCase(Locale.ROOT).startsWith("multipart/")) return null;
+		for (String parameter : contentType.split(";")) {
+			parameter = parameter.trim();
+			if (!parameter.regionMatches(true, 0, "boundary=", 0, 9)) continue;
+			String boundary = parameter.substring(9).trim();
+			if (boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\""))
+				boundary = boundary.substring(1, boundary.length() - 1);
+			return boundary.isEmpty() || boundary.length() > 70 ? null : boundary;
+		}
+		return null;
+	}
+
+	public MultipartPart next() throws IOException {
+		if (finished) return null;
+		if (!started) {
+			started = true;
+			if (!skipToDelimiter()) throw invalid("Missing opening boundary.");
+		}
+		if (!ensure(2)) throw invalid("Unexpected end of payload.");
+		if (buffer[position] == '-' && buffer[position + 1] == '-') {
+			finished = true;
+			return null;
+		}
+		skipLine();
+		if (parts.size() >= config.getMaxParts())
+			throw new PayloadTooLargeException("Too many multipart parts.", config.getMaxParts());
+		Headers headers = readHeaders();
+		String disposition = headers.getFirst("Content-Disposition");
+		String name = parameter(disposition, "name");
+		String filename = parameter(disposition, "filename");
+		MultipartPart part = readBody(headers, name, filename);
+		parts.add(part);
+		return part;
+	}
+
+	public List<MultipartPart> readAll() throws IOException {
+		while (next() != null) ;
+		return new ArrayList<>(parts);
+	}
+
+	public List<MultipartPart> getParts() {
+		return new ArrayList<>(parts);
+	}
+
+	@Override
+	public void close() throws IOException {
+		IOException exception = null;
+		for (MultipartPart part : parts)
+			try {
+				part.delete();
+			} catch (IOException e) {
+				exception = e;
+			}
+		if (exception != null) throw exception;
+	}
+
+	private boolean skipToDelimiter() throws IOException {
+		while (true) {
+			int index = indexOf(delimiter, position, limit);
+			if (index != -1) {
+				position = index + delimiter.length;
+				return true;
+			}
+			position = Math.max(position, limit - delimiter.length + 1);
+			if (fill() == -1) return false;
+		}
+	}
+
+	private void skipLine() throws IOException {
+		while (true) {
+			for (int i = position; i < limit; i++)
+				if (buffer[i] == '\n') {
+					position = i + 1;
+					return;
+				}
+			position = limit;
+			if (fill() == -1) throw invalid("Unexpected end of payload.");
+		}
+	}
+
+	private Headers readHeaders() throws IOException {
+		Headers headers = new Headers();
+		int read = 0;
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		while (true) {
+			if (position == limit && fill() == -1) throw invalid("Unexpected end of part headers.");
+			byte b = buffer[position++];
+			if (++read > config.getMaxHeaderSize())
+				throw new PayloadTooLargeException("Multipart headers are too large.", config.getMaxHeaderSize());
+			if (b != '\n') {
+				if (b != '\r') line.write(b);
+				continue;
+			}
+			if (line.size() == 0) return headers;
+			String header = new String(line.toByteArray(), StandardCharsets.UTF_8);
+			line.reset();
+			int colon = header.indexOf(':');
+			if (colon <= 0) throw invalid("Malformed part header.");
+			headers.add(header.substring(0, colon).trim(), header.substring(colon + 1).trim());
+		}
+	}
+
+	private MultipartPart readBody(Headers headers, String name, String filename) throws IOException {
+		ByteArrayOutputStream memory = new ByteArrayOutputStream();
+		Path file = null;
+		OutputStream out = memory;
+		long size = 0;
+		try {
+			while (true) {
+				int index = indexOf(delimiter, position, limit);
+				int end = index != -1 ? index : Math.max(position, limit - delimiter.length + 1);
+				int length = end - position;
+				if (length > 0) {
+					size += length;
+					if (size > config.getMaxPartSize())
+						throw new PayloadTooLargeException("Multipart part exceeds " + config.getMaxPartSize() + " bytes.", config.getMaxPartSize());
+					if (file == null && size > config.getSpillThreshold()) {
+						file = config.getTempDirectory() == null ? Files.createTempFile("multipart-", ".part") : Files.createTempFile(config.getTempDirectory(), "multipart-", ".part");
+						out = new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE);
+						memory.writeTo(out);
+						memory = null;
+					}
+					out.write(buffer, position, length);
+					position = end;
+				}
+				if (index != -1) {
+					position = index + delimiter.length;
+					break;
+				}
+				if (fill() == -1) throw invalid("Unexpected end of part body.");
+			}
+			out.close();
+			return new MultipartPart(headers, name, filename, file == null ? memory.toByteArray() : null, file, size);
+		} catch (IOException | RuntimeException e) {
+			out.close();
+			if (file != null) Files.deleteIfExists(file);
+			throw e;
+		}
+	}
+
+	private boolean ensure(int count) throws IOException {
+		while (limit - position < count)
+			if (fill() == -1) return false;
+		return true;
+	}
+
+	private int fill() throws IOException {
+		if (eof) return -1;
+		if (position > 0) {
+			System.arraycopy(buffer, position, buffer, 0, limit - position);
+			limit -= position;
+			position = 0;
+		}
+		int read = inputStream.read(buffer, limit, buffer.length - limit);
+		if (read == -1) {
+			eof = true;
+			return -1;
+		}
+		total += read;
+		if (total > config.getMaxRequestSize())
+			throw new PayloadTooLargeException("Multipart payload exceeds " + config.getMaxRequestSize() + " bytes.", config.getMaxRequestSize());
+		limit += read;
+		return read;
+	}
+
+	private int indexOf(byte[] pattern, int from, int to) {
+		outer:
+		for (int i = from; i <= to - pattern.length; i++) {
+			for (int j = 0; j < pattern.length; j++)
+				if (buffer[i + j] != pattern[j]) continue outer;
+			return i;
+		}
+		return -1;
+	}
+
+	private static String parameter(String header, String name) {
+		if (header == null) return null;
+		for (String parameter : header.split(";")) {
+			parameter = parameter.trim();
+			int equals = parameter.indexOf('=');
+			if (equals == -1 || !parameter.substring(0, equals).trim().equalsIgnoreCase(name)) continue;
+			String value = parameter.substring(equals + 1).trim();
+			if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\""))
+				value = value.substring(1, value.length() - 1);
+			return value;
+		}
+		return null;
+	}
+
+	private static InvalidBodyException invalid(String message) {
+		return new InvalidBodyException("Invalid multipart payload: " + message, null);
+	}
+}
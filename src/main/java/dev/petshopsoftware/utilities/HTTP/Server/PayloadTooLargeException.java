@@ -0,0 +1,16 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+public class PayloadTooLargeException extends InvalidBodyException {
+	private static final long serialVersionUID = 1L;
+
+	private final long limit;
+
+	public PayloadTooLargeException(String message, long limit) {
+		super(message, null);
+		this.limit = limit;
+	}
+
+	public long getLimit() {
+		return limit;
+	}
+}
@@ -0,0 +1,155 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+public class QueryParams extends AbstractMap<String, String> {
+	private final String query;
+	private volatile Map<String, List<String>> values = null;
+
+	public QueryParams(String query) {
+		this.query = query;
+	}
+
+	public String getQuery() {
+		return query;
+	}
+
+	protected Map<String, List<String>> parsed() {
+		Map<String, List<String>> values = this.values;
+		if (values == null)
+			synchronized (this) {
+				values = this.values;
+				if (values == null) {
+					values = parse(query);
+					this.values = values;
+				}
+			}
+		return values;
+	}
+
+	public List<String> getAll(String key) {
+		List<String> values = parsed().get(key);
+		return values == null ? Collections.emptyList() : Collections.unmodifiableList(values);
+	}
+
+	public Map<String, List<String>> asMultiMap() {
+		return Collections.unmodifiableMap(parsed());
+	}
+
+	@Override
+	public String get(Object key) {
+		List<String> values = parsed().get(key);
+		return values == null ? null : values.get(0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return parsed().containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return parsed().size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		if (query == null || query.isEmpty()) return true;
+		return parsed().isEmpty();
+	}
+
+	@Override
+	public Set<Entry<String, String>> entrySet() {
+		Map<String, List<String>> values = parsed();
+		return new AbstractSet<Entry<String, String>>() {
+			@Override
+			public Iterator<Entry<String, String>> iterator() {
+				Iterator<Entry<String, List<String>>> iterator = values.entrySet().iterator();
+				return new Iterator<Entry<String, String>>() {
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Entry<String, String> next() {
+						Entry<String, List<String>> entry = iterator.next();
+						return new SimpleImmutableEntry<>(entry.getKey(), entry.getValue().get(0));
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return values.size();
+			}
+		};
+	}
+
+	public static Map<String, List<String>> parse(String query) {
+		if (query == null || query.isEmpty()) return Collections.emptyMap();
+		Map<String, List<String>> values = new LinkedHashMap<>();
+		int length = query.length();
+		int start = 0;
+		while (start <= length) {
+			int separator = -1;
+			boolean keyEncoded = false;
+			boolean valueEncoded = false;
+			int end = start;
+			for (; end < length; end++) {
+				char c = query.charAt(end);
+				if (c == '&') break;
+				if (c == '=' && separator == -1) separator = end;
+				else if (c == '%' || c == '+') {
+					if (separator == -1) keyEncoded = true;
+					else valueEncoded = true;
+				}
+			}
+			if (end > start) {
+				int keyEnd = separator == -1 ? end : separator;
+				String key = keyEncoded ? decode(query, start, keyEnd) : query.substring(start, keyEnd);
+				String value = separator == -1 || separator + 1 == end ? null :
+						valueEncoded ? decode(query, separator + 1, end) : query.substring(separator + 1, end);
+				List<String> existing = values.get(key);
+				if (existing == null)
+					values.put(key, Collections.singletonList(value));
+				else {
+					if (existing.size() == 1) {
+						existing = new ArrayList<>(existing);
+						values.put(key, existing);
+					}
+					existing.add(value);
+				}
+			}
+			start = end + 1;
+		}
+		return values;
+	}
+
+	public static String decode(String source, int start, int end) {
+		byte[] bytes = null;
+		int count = 0;
+		StringBuilder builder = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			char c = source.charAt(i);
+			if (c == '%') {
+				if (bytes == null) bytes = new byte[(end - i) / 3];
+				count = 0;
+				while (i + 2 < end && source.charAt(i) == '%') {
+					int high = Character.digit(source.charAt(i + 1), 16);
+					int low = Character.digit(source.charAt(i + 2), 16);
+					if (high == -1 || low == -1)
+						throw new InvalidQueryException("Invalid escape sequence in query.");
+					bytes[count++] = (byte) ((high << 4) + low);
+					i += 3;
+				}
+				if (i < end && source.charAt(i) == '%')
+					throw new InvalidQueryException("Incomplete escape sequence in query.");
+				builder.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+				i--;
+			} else builder.append(c == '+' ? ' ' : c);
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,157 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+public class RateLimitHandler implements HTTPHandler {
+	public static final int MAX_CAPACITY = 1 << 26;
+	private static final int PROBES = 4;
+
+	private final Key key;
+	private final long interval;
+	private final long tolerance;
+	private final int mask;
+	private final AtomicLongArray slots;
+	private final int overflow;
+	private final LongAdder overflows = new LongAdder();
+	private final long origin = System.nanoTime();
+	private BiPredicate<Route, Method> filter = (route, method) -> true;
+
+	public RateLimitHandler(Key key, long permits, long period, TimeUnit unit, int burst, int capacity) {
+		if (permits <= 0 || period <= 0 || burst <= 0)
+			throw new IllegalArgumentException("Permits, period and burst must be positive.");
+		if (capacity <= 0 || capacity > MAX_CAPACITY)
+			throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ".");
+		this.key = key;
+		this.interval = Math.max(unit.toNanos(period) / permits, 1);
+		this.tolerance = interval * burst;
+		int size = Integer.highestOneBit(Math.max(capacity, PROBES) - 1) << 1;
+		this.mask = size - 1;
+		this.overflow = size << 1;
+		this.slots = new AtomicLongArray(overflow + 2);
+	}
+
+	public RateLimitHandler filter(BiPredicate<Route, Method> filter) {
+		this.filter = filter;
+		return this;
+	}
+
+	@Override
+	public boolean matchesRoute(Route route, Method method) {
+		return filter.test(route, method);
+	}
+
+	@Override
+	public HTTPResponse handle(HTTPData data, Method method) {
+		long wait = acquire(key.hash(data));
+		if (wait <= 0) return null;
+		return getLimitedResponse(data, wait);
+	}
+
+	public HTTPResponse getLimitedResponse(HTTPData data, long waitNanos) {
+		return HTTPResponse.TIMEOUT.header("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+	}
+
+	public long acquire(long fingerprint) {
+		if (fingerprint == 0) fingerprint = 1;
+		long now = System.nanoTime() - origin + 1;
+		int start = (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+		int slot = -1;
+		for (int attempt = 0; attempt < 2 && slot == -1; attempt++) {
+			int idle = -1;
+			long idleFingerprint = 0;
+			for (int i = 0; i < PROBES; i++) {
+				int candidate = ((start + i) & mask) << 1;
+				long current = slots.get(candidate);
+				if (current == fingerprint) {
+					slot = candidate;
+					break;
+				}
+				if (idle == -1 && slots.get(candidate + 1) <= now) {
+					idle = candidate;
+					idleFingerprint = current;
+				}
+			}
+			if (slot == -1 && idle != -1 && slots.compareAndSet(idle, idleFingerprint, fingerprint))
+				slot = idle;
+		}
+		if (slot == -1) {
+			overflows.increment();
+			slot = overflow;
+		}
+		while (true) {
+			long tat = slots.get(slot + 1);
+			long next = Math.max(tat, now) + interval;
+			long wait = next - now - tolerance;
+			if (wait > 0) return wait;
+			if (slots.compareAndSet(slot + 1, tat, next)) return 0;
+		}
+	}
+
+	public Key getKey() {
+		return key;
+	}
+
+	public int getCapacity() {
+		return mask + 1;
+	}
+
+	public long getOverflows() {
+		return overflows.sum();
+	}
+
+	static long hash(long hash, CharSequence value) {
+		if (value == null) return hash;
+		for (int i = 0; i < value.length(); i++) {
+			hash ^= value.charAt(i);
+			hash *= 0x100000001B3L;
+		}
+		return hash;
+	}
+
+	static long mix(long hash) {
+		hash ^= hash >>> 33;
+		hash *= 0xFF51AFD7ED558CCDL;
+		hash ^= hash >>> 33;
+		hash *= 0xC4CEB9FE1A85EC53L;
+		return hash ^ (hash >>> 33);
+	}
+
+	public enum Key {
+		IP {
+			@Override
+			long hash(HTTPData data) {
+				return mix(RateLimitHandler.hash(SEED, data.ip()));
+			}
+		},
+		SUBJECT {
+			@Override
+			long hash(HTTPData data) {
+				String subject = data.subject();
+				if (subject != null) return mix(RateLimitHandler.hash(SEED ^ 0x5B, subject));
+				return IP.hash(data);
+			}
+		},
+		ROUTE {
+			@Override
+			long hash(HTTPData data) {
+				RouteEntry entry = data.entry();
+				if (entry != null) return mix(RateLimitHandler.hash(SEED, entry.getID()));
+				return mix(RateLimitHandler.hash(SEED ^ data.route().method().ordinal(), data.route().path()));
+			}
+		},
+		IP_ROUTE {
+			@Override
+			long hash(HTTPData data) {
+				return mix(RateLimitHandler.hash(ROUTE.hash(data), data.ip()));
+			}
+		};
+
+		private static final long SEED = 0xCBF29CE484222325L;
+
+		abstract long hash(HTTPData data);
+	}
+}
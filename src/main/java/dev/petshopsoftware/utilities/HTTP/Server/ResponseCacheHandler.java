@@ -0,0 +1,164 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.sun.net.httpserver.Headers;
+import dev.petshopsoftware.utilities.Util.ParsingMode;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+public class ResponseCacheHandler implements HTTPHandler {
+	public static final int DEFAULT_MAX_ENTRIES = 1024;
+	public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+	private final int maxEntries;
+	private final long maxBytes;
+	private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75F, true);
+	private long bytes = 0;
+
+	public ResponseCacheHandler(int maxEntries, long maxBytes) {
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+	}
+
+	public ResponseCacheHandler() {
+		this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+	}
+
+	@Override
+	public boolean matchesRoute(Route route, Method method) {
+		return route.method() == HTTPMethod.GET && method.isAnnotationPresent(Cached.class);
+	}
+
+	@Override
+	public HTTPResponse around(HTTPData data, Method method, RouteInvoker next) throws Exception {
+		if (data.headers().containsKey("Authorization") || data.headers().containsKey("Cookie"))
+			return next.invoke(data);
+		Cached cached = method.getAnnotation(Cached.class);
+		String key = key(data, cached);
+		long now = System.nanoTime();
+		CacheEntry entry = get(key, now);
+		if (entry == null) {
+			HTTPResponse response = next.invoke(data);
+			if (!cacheable(response)) return response;
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			data.server().writeBody(outputStream, response);
+			entry = new CacheEntry(response, outputStream.toByteArray(), now + cached.unit().toNanos(cached.ttl()), cached.varyHeaders());
+			put(key, entry);
+		}
+		if (entry.matches(data.headers().getFirst("If-None-Match")))
+			return entry.notModified;
+		return entry.response;
+	}
+
+	protected boolean cacheable(HTTPResponse response) {
+		if (response == null || response.getCode() != 200) return false;
+		if (response instanceof FileResponse || response instanceof StreamResponse) return false;
+		Headers headers = response.headers();
+		if (headers.containsKey("Set-Cookie")) return false;
+		String cacheControl = headers.getFirst("Cache-Control");
+		return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+	}
+
+	protected String key(HTTPData data, Cached cached) {
+		StringBuilder builder = new StringBuilder();
+		if (data.entry() != null) builder.append(data.entry().getID()).append(' ');
+		else builder.append(data.route().method()).append(' ').append(data.route().path()).append(' ');
+		builder.append(data.exchange().getRequestURI().getRawPath());
+		String query = data.exchange().getRequestURI().getRawQuery();
+		if (query != null) builder.append('?').append(query);
+		for (String header : cached.varyHeaders())
+			builder.append('\n').append(header).append(": ").append(data.headers().getFirst(header));
+		return builder.toString();
+	}
+
+	protected synchronized CacheEntry get(String key, long now) {
+		CacheEntry entry = entries.get(key);
+		if (entry == null) return null;
+		if (entry.expiresAt - now > 0) return entry;
+		entries.remove(key);
+		bytes -= entry.size;
+		return null;
+	}
+
+	protected synchronized void put(String key, CacheEntry entry) {
+		if (entry.size > maxBytes) return;
+		CacheEntry previous = entries.put(key, entry);
+		if (previous != null) bytes -= previous.size;
+		bytes += entry.size;
+		Iterator<CacheEntry> iterator = entries.values().iterator();
+		while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+			bytes -= iterator.next().size;
+			iterator.remove();
+		}
+	}
+
+	public synchronized void invalidate(Predicate<String> key) {
+		Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<String, CacheEntry> entry = iterator.next();
+			if (!key.test(entry.getKey())) continue;
+			bytes -= entry.getValue().size;
+			iterator.remove();
+		}
+	}
+
+	public synchronized void invalidateAll() {
+		entries.clear();
+		bytes = 0;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	protected static String etag(byte[] body) {
+		long hash = 0xCBF29CE484222325L;
+		for (byte b : body) {
+			hash ^= b & 0xFF;
+			hash *= 0x100000001B3L;
+		}
+		return "\"" + Long.toHexString(hash) + "-" + Integer.toHexString(body.length) + "\"";
+	}
+
+	protected static class CacheEntry {
+		private final String etag;
+		private final HTTPResponse response;
+		private final HTTPResponse notModified;
+		private final long expiresAt;
+		private final long size;
+
+		protected CacheEntry(HTTPResponse source, byte[] body, long expiresAt, String[] varyHeaders) {
+			this.etag = etag(body);
+			Headers headers = new Headers();
+			source.headers().forEach((key, values) -> headers.put(key, new ArrayList<>(values)));
+			if (source.getParsingMode() == ParsingMode.JSON && !headers.containsKey("Content-Type"))
+				headers.set("Content-Type", "application/json");
+			headers.set("ETag", "W/" + etag);
+			for (String header : varyHeaders)
+				headers.add("Vary", header);
+			this.response = new HTTPResponse(source.getCode(), null, body, ParsingMode.RAW, headers).shared();
+			this.notModified = new HTTPResponse(304, null, null, ParsingMode.RAW, headers).shared();
+			this.expiresAt = expiresAt;
+			this.size = body.length;
+		}
+
+		protected boolean matches(String ifNoneMatch) {
+			if (ifNoneMatch == null) return false;
+			for (String candidate : ifNoneMatch.split(",")) {
+				candidate = candidate.trim();
+				if (candidate.startsWith("W/")) candidate = candidate.substring(2);
+				if (candidate.equals(etag) || candidate.equals("*")) return true;
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public class ResponseOutputStream extends OutputStream {
+	private final HttpExchange exchange;
+	private final int code;
+	private final boolean discard;
+	private final ContentEncoding encoding;
+	private final int compressionThreshold;
+	private byte[] buffer;
+	private int position = 0;
+	private OutputStream out = null;
+	private long count = 0;
+	private boolean closed = false;
+
+	public ResponseOutputStream(HttpExchange exchange, int code, int bufferSize, ContentEncoding encoding, int compressionThreshold) {
+		this.exchange = exchange;
+		this.code = code;
+		this.discard = "HEAD".equalsIgnoreCase(exchange.getRequestMethod()) || code == 204 || code == 304;
+		this.encoding = encoding;
+		this.compressionThreshold = compressionThreshold;
+		this.buffer = new byte[Math.max(bufferSize, 0)];
+	}
+
+	public ResponseOutputStream(HttpExchange exchange, int code, int bufferSize) {
+		this(exchange, code, bufferSize, null, 0);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		ensureOpen();
+		if (out == null && position == buffer.length) commit(false);
+		if (out != null) {
+			if (!discard) out.write(b);
+		} else buffer[position++] = (byte) b;
+		count++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		ensureOpen();
+		if (out == null && position + len > buffer.length) commit(false);
+		if (out != null) {
+			if (!discard) out.write(b, off, len);
+		} else {
+			System.arraycopy(b, off, buffer, position, len);
+			position += len;
+		}
+		count += len;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		if (out != null && !discard) out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) return;
+		closed = true;
+		if (out == null) commit(true);
+		if (discard) exchange.close();
+		else out.close();
+	}
+
+	public void abort() {
+		if (closed) return;
+		closed = true;
+		buffer = null;
+		if (out != null) exchange.close();
+	}
+
+	protected void commit(boolean complete) throws IOException {
+		if (!discard && encoding != null && (!complete || position >= compressionThreshold)) {
+			exchange.getResponseHeaders().set("Content-Encoding", encoding.getToken());
+			exchange.sendResponseHeaders(code, 0);
+			out = encoding.wrap(exchange.getResponseBody());
+			if (position > 0) out.write(buffer, 0, position);
+			buffer = null;
+			return;
+		}
+		long length = complete ? (position == 0 ? -1 : position) : 0;
+		exchange.sendResponseHeaders(code, discard ? -1 : length);
+		out = exchange.getResponseBody();
+		if (position > 0 && !discard) out.write(buffer, 0, position);
+		buffer = null;
+	}
+
+	private void ensureOpen() throws IOException {
+		if (closed) throw new IOException("Response stream is closed.");
+	}
+
+	public boolean isCommitted() {
+		return out != null;
+	}
+
+	public long getCount() {
+		return count;
+	}
+}
@@ -12,4 +12,8 @@ public @interface Route {
 	HTTPMethod method();
 
 	ParsingMode parsingMode() default ParsingMode.JSON;
+
+	boolean compress() default true;
+
+	long maxBodySize() default -1;
 }
@@ -0,0 +1,63 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RouteEntry {
+	private final String id;
+	private final String path;
+	private final Route route;
+	private final Method method;
+	private final RouteInvoker invoker;
+	private final String[] paramNames;
+	private volatile RouteInvoker pipeline;
+
+	public RouteEntry(String path, Route route, Method method, RouteInvoker invoker) {
+		this.id = route.method() + " " + path;
+		this.path = path;
+		this.route = route;
+		this.method = method;
+		this.invoker = invoker;
+		this.pipeline = invoker;
+		List<String> paramNames = new ArrayList<>();
+		for (String segment : RouteTree.segments(path))
+			if (segment.startsWith(":"))
+				paramNames.add(segment.substring(1));
+			else if (segment.startsWith("*"))
+				paramNames.add(segment.length() == 1 ? "*" : segment.substring(1));
+		this.paramNames = paramNames.toArray(new String[0]);
+	}
+
+	public String getID() {
+		return id;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	public Route getRoute() {
+		return route;
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	public RouteInvoker getInvoker() {
+		return invoker;
+	}
+
+	public RouteInvoker getPipeline() {
+		return pipeline;
+	}
+
+	void pipeline(RouteInvoker pipeline) {
+		this.pipeline = pipeline;
+	}
+
+	public String[] getParamNames() {
+		return paramNames;
+	}
+}
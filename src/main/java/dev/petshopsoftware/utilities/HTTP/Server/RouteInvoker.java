@@ -0,0 +1,73 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import dev.petshopsoftware.utilities.JSON.JSON;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+@FunctionalInterface
+public interface RouteInvoker {
+	static RouteInvoker of(Method method) throws ReflectiveOperationException {
+		if (method.getParameterCount() == 2) {
+			BodyInvoker invoker = link(method, BodyInvoker.class, MethodType.methodType(HTTPResponse.class, HTTPData.class, Object.class));
+			ObjectReader reader = JSON.MAPPER.readerFor(JSON.MAPPER.constructType(method.getGenericParameterTypes()[1]));
+			return data -> invoker.invoke(data, data.jsonBody(reader));
+		}
+		return link(method, RouteInvoker.class, MethodType.methodType(HTTPResponse.class, HTTPData.class));
+	}
+
+	static <T> T link(Method method, Class<T> type, MethodType invokedType) throws ReflectiveOperationException {
+		method.setAccessible(true);
+		MethodHandles.Lookup lookup = MethodHandles.lookup();
+		MethodHandle handle = lookup.unreflect(method);
+		if (isLinkable(method))
+			try {
+				CallSite site = LambdaMetafactory.metafactory(lookup, "invoke", MethodType.methodType(type), invokedType, handle, handle.type());
+				return type.cast(site.getTarget().invoke());
+			} catch (Throwable ignored) {
+			}
+		MethodHandle exactHandle = handle.asType(invokedType);
+		if (type == BodyInvoker.class)
+			return type.cast((BodyInvoker) (data, body) -> {
+				try {
+					return (HTTPResponse) exactHandle.invokeExact(data, body);
+				} catch (Exception | Error e) {
+					throw e;
+				} catch (Throwable t) {
+					throw new RuntimeException(t);
+				}
+			});
+		return type.cast((RouteInvoker) data -> {
+			try {
+				return (HTTPResponse) exactHandle.invokeExact(data);
+			} catch (Exception | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new RuntimeException(t);
+			}
+		});
+	}
+
+	static boolean isLinkable(Method method) {
+		if (!Modifier.isPublic(method.getModifiers())) return false;
+		for (Class<?> parameter : method.getParameterTypes())
+			if (parameter.isPrimitive()) return false;
+		for (Class<?> clazz = method.getDeclaringClass(); clazz != null; clazz = clazz.getEnclosingClass())
+			if (!Modifier.isPublic(clazz.getModifiers())) return false;
+		try {
+			Class<?> visible = Class.forName(method.getDeclaringClass().getName(), false, RouteInvoker.class.getClassLoader());
+			return visible == method.getDeclaringClass();
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	HTTPResponse invoke(HTTPData data) throws Exception;
+
+	@FunctionalInterface
+	interface BodyInvoker {
+		HTTPResponse invoke(HTTPData data, Object body) throws Exception;
+	}
+}
@@ -0,0 +1,70 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RouteMetrics {
+	private static final int MIN_STATUS = 100;
+	private static final int MAX_STATUS = 599;
+
+	private final String method;
+	private final String path;
+	private final LongAdder requests = new LongAdder();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLongArray statuses = new AtomicLongArray(MAX_STATUS - MIN_STATUS + 1);
+	private final LatencyHistogram latency = new LatencyHistogram();
+
+	public RouteMetrics(String method, String path) {
+		this.method = method;
+		this.path = path;
+	}
+
+	public void start() {
+		inFlight.incrementAndGet();
+	}
+
+	public void end(int status, long durationNanos) {
+		inFlight.decrementAndGet();
+		requests.increment();
+		if (status >= MIN_STATUS && status <= MAX_STATUS)
+			statuses.incrementAndGet(status - MIN_STATUS);
+		latency.record(durationNanos);
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public String getPath() {
+		return path;
+	}
+
+	public long getRequests() {
+		return requests.sum();
+	}
+
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public long getStatusCount(int status) {
+		if (status < MIN_STATUS || status > MAX_STATUS) return 0;
+		return statuses.get(status - MIN_STATUS);
+	}
+
+	public Map<Integer, Long> getStatusCounts() {
+		Map<Integer, Long> counts = new LinkedHashMap<>();
+		for (int i = 0; i < statuses.length(); i++) {
+			long count = statuses.get(i);
+			if (count > 0) counts.put(i + MIN_STATUS, count);
+		}
+		return counts;
+	}
+
+	public LatencyHistogram getLatency() {
+		return latency;
+	}
+}
@@ -0,0 +1,47 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RoutePipeline implements RouteInvoker {
+	private final Route route;
+	private final Method method;
+	private final RouteInvoker invoker;
+	private final HTTPHandler[] handlers;
+
+	public RoutePipeline(RouteEntry entry, HTTPHandler[] handlers) {
+		this.route = entry.getRoute();
+		this.method = entry.getMethod();
+		this.invoker = entry.getInvoker();
+		this.handlers = handlers;
+	}
+
+	public static RouteInvoker of(RouteEntry entry, List<HTTPHandler> handlers) {
+		List<HTTPHandler> matching = new ArrayList<>();
+		for (HTTPHandler handler : handlers)
+			if (handler.matchesRoute(entry.getRoute(), entry.getMethod()))
+				matching.add(handler);
+		if (matching.isEmpty()) return entry.getInvoker();
+		return new RoutePipeline(entry, matching.toArray(new HTTPHandler[0]));
+	}
+
+	@Override
+	public HTTPResponse invoke(HTTPData data) throws Exception {
+		return invoke(data, 0);
+	}
+
+	protected HTTPResponse invoke(HTTPData data, int index) throws Exception {
+		if (index == handlers.length) return invoker.invoke(data);
+		HTTPHandler handler = handlers[index];
+		if (!handler.matchesRoute(data, route, method)) return invoke(data, index + 1);
+		HTTPResponse response = handler.handle(data, method);
+		if (response != null) return response;
+		response = handler.around(data, method, next -> invoke(next, index + 1));
+		return handler.after(data, method, response);
+	}
+
+	public HTTPHandler[] getHandlers() {
+		return handlers.clone();
+	}
+}
@@ -0,0 +1,96 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import dev.petshopsoftware.utilities.Util.Types.Pair;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RouteTree {
+	private final Map<HTTPMethod, Node> roots = new EnumMap<>(HTTPMethod.class);
+	private int maxParams = 0;
+
+	protected static int trimEnd(String path) {
+		int end = path.length();
+		while (end > 0 && path.charAt(end - 1) == '/') end--;
+		return end;
+	}
+
+	protected static String[] segments(String path) {
+		return path.substring(0, trimEnd(path)).split("/", -1);
+	}
+
+	public boolean add(RouteEntry entry) {
+		Node node = roots.computeIfAbsent(entry.getRoute().method(), method -> new Node());
+		String[] segments = segments(entry.getPath());
+		for (int i = 0; i < segments.length; i++) {
+			String segment = segments[i];
+			if (segment.startsWith("*")) {
+				if (i != segments.length - 1) return false;
+				if (node.wildcard == null) node.wildcard = new Node();
+				node = node.wildcard;
+			} else if (segment.startsWith(":")) {
+				if (node.param == null) node.param = new Node();
+				node = node.param;
+			} else {
+				if (node.children == null) node.children = new HashMap<>();
+				node = node.children.computeIfAbsent(segment, key -> new Node());
+			}
+		}
+		if (node.entry != null) return false;
+		node.entry = entry;
+		maxParams = Math.max(maxParams, entry.getParamNames().length);
+		return true;
+	}
+
+	public Pair<RouteEntry, Map<String, String>> resolve(HTTPMethod method, String path) {
+		Node root = method == null ? null : roots.get(method);
+		if (root == null || path == null) return null;
+		String[] params = maxParams == 0 ? null : new String[maxParams];
+		RouteEntry entry = find(root, path, 0, trimEnd(path), params, 0);
+		if (entry == null) return null;
+		String[] names = entry.getParamNames();
+		if (names.length == 0) return new Pair<>(entry, Collections.emptyMap());
+		Map<String, String> pathParams = new HashMap<>(names.length * 2);
+		for (int i = 0; i < names.length; i++)
+			pathParams.put(names[i], params[i]);
+		return new Pair<>(entry, pathParams);
+	}
+
+	private RouteEntry find(Node node, String path, int start, int end, String[] params, int depth) {
+		if (start > end) {
+			if (node.entry != null || node.wildcard == null) return node.entry;
+			params[depth] = "";
+			return node.wildcard.entry;
+		}
+		int slash = path.indexOf('/', start);
+		int segmentEnd = slash == -1 || slash > end ? end : slash;
+		if (node.children != null) {
+			Node child = node.children.get(path.substring(start, segmentEnd));
+			if (child != null) {
+				RouteEntry entry = find(child, path, segmentEnd + 1, end, params, depth);
+				if (entry != null) return entry;
+			}
+		}
+		if (node.param != null) {
+			RouteEntry entry = find(node.param, path, segmentEnd + 1, end, params, depth + 1);
+			if (entry != null) {
+				params[depth] = path.substring(start, segmentEnd);
+				return entry;
+			}
+		}
+		if (node.wildcard != null && node.wildcard.entry != null) {
+			params[depth] = path.substring(start, end);
+			return node.wildcard.entry;
+		}
+		return null;
+	}
+
+	private static class Node {
+		private Map<String, Node> children;
+		private Node param;
+		private Node wildcard;
+		private RouteEntry entry;
+	}
+}
@@ -0,0 +1,308 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.sun.net.httpserver.Headers;
+import dev.petshopsoftware.utilities.Util.ParsingMode;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public class StaticFiles implements RouteInvoker {
+	public static final int DEFAULT_CACHED_FILE_SIZE = 256 * 1024;
+	public static final long DEFAULT_CACHE_SIZE = 32L * 1024 * 1024;
+	private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+
+	static {
+		CONTENT_TYPES.put("html", "text/html; charset=utf-8");
+		CONTENT_TYPES.put("htm", "text/html; charset=utf-8");
+		CONTENT_TYPES.put("css", "text/css; charset=utf-8");
+		CONTENT_TYPES.put("js", "text/javascript; charset=utf-8");
+		CONTENT_TYPES.put("mjs", "text/javascript; charset=utf-8");
+		CONTENT_TYPES.put("json", "application/json");
+		CONTENT_TYPES.put("map", "application/json");
+		CONTENT_TYPES.put("txt", "text/plain; charset=utf-8");
+		CONTENT_TYPES.put("xml", "application/xml");
+		CONTENT_TYPES.put("svg", "image/svg+xml");
+		CONTENT_TYPES.put("png", "image/png");
+		CONTENT_TYPES.put("jpg", "image/jpeg");
+		CONTENT_TYPES.put("jpeg", "image/jpeg");
+		CONTENT_TYPES.put("gif", "image/gif");
+		CONTENT_TYPES.put("webp", "image/webp");
+		CONTENT_TYPES.put("avif", "image/avif");
+		CONTENT_TYPES.put("ico", "image/x-icon");
+		CONTENT_TYPES.put("woff", "font/woff");
+		CONTENT_TYPES.put("woff2", "font/woff2");
+		CONTENT_TYPES.put("ttf", "font/ttf");
+		CONTENT_TYPES.put("wasm", "application/wasm");
+		CONTENT_TYPES.put("pdf", "application/pdf");
+		CONTENT_TYPES.put("mp4", "video/mp4");
+		CONTENT_TYPES.put("webm", "video/webm");
+		CONTENT_TYPES.put("mp3", "audio/mpeg");
+	}
+
+	private final Path root;
+	private final LinkedHashMap<Path, CachedFile> cache = new LinkedHashMap<>(16, 0.75F, true);
+	private String indexFile = "index.html";
+	private boolean spa = false;
+	private boolean precompressed = true;
+	private String cacheControl = null;
+	private int maxCachedFileSize = DEFAULT_CACHED_FILE_SIZE;
+	private long maxCacheSize = DEFAULT_CACHE_SIZE;
+	private long cacheSize = 0;
+
+	public StaticFiles(Path root) {
+		this.root = root.toAbsolutePath().normalize();
+	}
+
+	public static Route route(String path, HTTPMethod method) {
+		return new Route() {
+			@Override
+			public String path() {
+				return path;
+			}
+
+			@Override
+			public HTTPMethod method() {
+				return method;
+			}
+
+			@Override
+			public ParsingMode parsingMode() {
+				return ParsingMode.RAW;
+			}
+
+			@Override
+			public boolean compress() {
+				return false;
+			}
+
+			@Override
+			public long maxBodySize() {
+				return 0;
+			}
+
+			@Override
+			public Class<? extends Annotation> annotationType() {
+				return Route.class;
+			}
+		};
+	}
+
+	public static Method method() {
+		try {
+			return StaticFiles.class.getMethod("invoke", HTTPData.class);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	public StaticFiles indexFile(String indexFile) {
+		this.indexFile = indexFile;
+		return this;
+	}
+
+	public StaticFiles spa(boolean spa) {
+		this.spa = spa;
+		return this;
+	}
+
+	public StaticFiles precompressed(boolean precompressed) {
+		this.precompressed = precompressed;
+		return this;
+	}
+
+	public StaticFiles cacheControl(String cacheControl) {
+		this.cacheControl = cacheControl;
+		return this;
+	}
+
+	public StaticFiles cache(int maxCachedFileSize, long maxCacheSize) {
+		this.maxCachedFileSize = maxCachedFileSize;
+		this.maxCacheSize = maxCacheSize;
+		synchronized (cache) {
+			trim();
+		}
+		return this;
+	}
+
+	@Override
+	public HTTPResponse invoke(HTTPData data) throws IOException {
+		Path file = resolve(data.pathParams().get("*"));
+		if (file == null) return data.server().getNotFound(data);
+		BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		Headers headers = new Headers();
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis() / 1000 * 1000;
+		String etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+		headers.set("Content-Type", contentType(file));
+		headers.set("Last-Modified", DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(lastModified), ZoneOffset.UTC)));
+		headers.set("ETag", etag);
+		headers.set("Accept-Ranges", "bytes");
+		if (cacheControl != null) headers.set("Cache-Control", cacheControl);
+		if (notModified(data.headers(), etag, lastModified))
+			return new FileResponse(304, headers);
+
+		String range = data.headers().getFirst("Range");
+		if (range != null && matchesIfRange(data.headers().getFirst("If-Range"), etag)) {
+			long[] bounds = parseRange(range, size);
+			if (bounds == null) {
+				headers.set("Content-Range", "bytes */" + size);
+				return new FileResponse(416, headers);
+			}
+			if (bounds.length == 2) {
+				headers.set("Content-Range", "bytes " + bounds[0] + "-" + bounds[1] + "/" + size);
+				return body(206, headers, file, size, lastModified, bounds[0], bounds[1] - bounds[0] + 1);
+			}
+		}
+
+		if (precompressed) {
+			headers.add("Vary", "Accept-Encoding");
+			if (ContentEncoding.negotiate(data.headers().getFirst("Accept-Encoding")) == ContentEncoding.GZIP) {
+				Path gzip = file.resolveSibling(file.getFileName() + ".gz");
+				if (Files.isRegularFile(gzip, LinkOption.NOFOLLOW_LINKS)) {
+					BasicFileAttributes gzipAttributes = Files.readAttributes(gzip, BasicFileAttributes.class);
+					if (gzipAttributes.lastModifiedTime().toMillis() / 1000 * 1000 >= lastModified) {
+						headers.set("Content-Encoding", ContentEncoding.GZIP.getToken());
+						headers.set("ETag", gzipTag(etag));
+						headers.remove("Accept-Ranges");
+						long gzipSize = gzipAttributes.size();
+						return body(200, headers, gzip, gzipSize, gzipAttributes.lastModifiedTime().toMillis(), 0, gzipSize);
+					}
+				}
+			}
+		}
+		return body(200, headers, file, size, lastModified, 0, size);
+	}
+
+	protected Path resolve(String path) {
+		if (path == null || path.indexOf('\0') != -1 || path.indexOf('\\') != -1) return null;
+		for (String segment : path.split("/"))
+			if (segment.startsWith(".")) return null;
+		Path file = root.resolve(path.startsWith("/") ? path.substring(1) : path).normalize();
+		if (!file.startsWith(root)) return null;
+		if (Files.isDirectory(file) && indexFile != null)
+			file = file.resolve(indexFile);
+		if (Files.isRegularFile(file)) return file;
+		if (spa && indexFile != null && !path.substring(path.lastIndexOf('/') + 1).contains(".")) {
+			file = root.resolve(indexFile);
+			if (Files.isRegularFile(file)) return file;
+		}
+		return null;
+	}
+
+	protected HTTPResponse body(int code, Headers headers, Path file, long size, long lastModified, long offset, long length) throws IOException {
+		if (size > maxCachedFileSize) return new FileResponse(code, headers, file, offset, length);
+		CachedFile cached;
+		synchronized (cache) {
+			cached = cache.get(file);
+		}
+		if (cached == null || cached.size != size || cached.lastModified != lastModified) {
+			byte[] bytes = Files.readAllBytes(file);
+			if (bytes.length != size) return new FileResponse(code, headers, file, offset, length);
+			cached = new CachedFile(bytes, size, lastModified);
+			synchronized (cache) {
+				CachedFile previous = cache.put(file, cached);
+				if (previous != null) cacheSize -= previous.bytes.length;
+				cacheSize += bytes.length;
+				trim();
+			}
+		}
+		return new FileResponse(code, headers, cached.bytes, (int) offset, (int) length);
+	}
+
+	private void trim() {
+		Iterator<CachedFile> iterator = cache.values().iterator();
+		while (cacheSize > maxCacheSize && iterator.hasNext()) {
+			cacheSize -= iterator.next().bytes.length;
+			iterator.remove();
+		}
+	}
+
+	protected boolean notModified(Headers headers, String etag, long lastModified) {
+		String ifNoneMatch = headers.getFirst("If-None-Match");
+		if (ifNoneMatch != null) {
+			for (String candidate : ifNoneMatch.split(",")) {
+				candidate = candidate.trim();
+				if (candidate.startsWith("W/")) candidate = candidate.substring(2);
+				if (candidate.equals("*") || candidate.equals(etag) || candidate.equals(gzipTag(etag))) return true;
+			}
+			return false;
+		}
+		String ifModifiedSince = headers.getFirst("If-Modified-Since");
+		if (ifModifiedSince == null) return false;
+		try {
+			return ZonedDateTime.parse(ifModifiedSince, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli() >= lastModified;
+		} catch (DateTimeParseException e) {
+			return false;
+		}
+	}
+
+	private static String gzipTag(String etag) {
+		return etag.substring(0, etag.length() - 1) + "-gz\"";
+	}
+
+	protected boolean matchesIfRange(String ifRange, String etag) {
+		return ifRange == null || ifRange.trim().equals(etag);
+	}
+
+	protected static long[] parseRange(String range, long size) {
+		if (!range.startsWith("bytes=") || range.indexOf(',') != -1) return new long[0];
+		String spec = range.substring(6).trim();
+		int dash = spec.indexOf('-');
+		if (dash == -1) return new long[0];
+		try {
+			long start;
+			long end;
+			if (dash == 0) {
+				long suffix = Long.parseLong(spec.substring(1));
+				if (suffix <= 0) return null;
+				start = Math.max(0, size - suffix);
+				end = size - 1;
+			} else {
+				start = Long.parseLong(spec.substring(0, dash));
+				end = dash == spec.length() - 1 ? size - 1 : Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+			}
+			if (start >= size || start > end) return null;
+			return new long[]{start, end};
+		} catch (NumberFormatException e) {
+			return new long[0];
+		}
+	}
+
+	protected static String contentType(Path file) {
+		String name = file.getFileName().toString();
+		int dot = name.lastIndexOf('.');
+		String type = dot == -1 ? null : CONTENT_TYPES.get(name.substring(dot + 1).toLowerCase(Locale.ROOT));
+		return type == null ? "application/octet-stream" : type;
+	}
+
+	public Path getRoot() {
+		return root;
+	}
+
+	private static class CachedFile {
+		private final byte[] bytes;
+		private final long size;
+		private final long lastModified;
+
+		private CachedFile(byte[] bytes, long size, long lastModified) {
+			this.bytes = bytes;
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+	}
+}
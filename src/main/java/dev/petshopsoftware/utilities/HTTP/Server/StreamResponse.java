@@ -0,0 +1,236 @@
+package dev.petshopsoftware.utilities.HTTP.Server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import dev.petshopsoftware.utilities.JSON.JSON;
+import dev.petshopsoftware.utilities.Util.ParsingMode;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StreamResponse extends HTTPResponse {
+	public static final int DEFAULT_CAPACITY = 256;
+	public static final long DEFAULT_OFFER_TIMEOUT = 5000;
+	public static final String EVENT_STREAM = "text/event-stream; charset=utf-8";
+	private static final byte[] SSE_HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+	private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+	private static final ExecutorService WRITERS = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+		Thread thread = new Thread(runnable, "http-stream-writer-" + THREAD_COUNT.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	});
+	private static final ScheduledExecutorService HEARTBEATS = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "http-stream-heartbeat");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	private final BlockingQueue<byte[]> queue;
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final AtomicBoolean finished = new AtomicBoolean();
+	private final List<Runnable> closeListeners = new CopyOnWriteArrayList<>();
+	private final String contentType;
+	private final byte[] heartbeat;
+	private long heartbeatInterval = 0;
+	private long offerTimeout = DEFAULT_OFFER_TIMEOUT;
+	private volatile HttpExchange exchange = null;
+	private volatile OutputStream outputStream = null;
+	private volatile boolean closing = false;
+	private volatile long lastWrite = System.nanoTime();
+	private ScheduledFuture<?> heartbeatTask = null;
+
+	public StreamResponse(int code, String contentType, int capacity, byte[] heartbeat) {
+		super(code, null, null, ParsingMode.RAW, null);
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.contentType = contentType;
+		this.heartbeat = heartbeat;
+	}
+
+	public StreamResponse(String contentType) {
+		this(200, contentType, DEFAULT_CAPACITY, null);
+	}
+
+	public static StreamResponse events(int capacity) {
+		return new StreamResponse(200, EVENT_STREAM, capacity, SSE_HEARTBEAT).heartbeat(15, TimeUnit.SECONDS);
+	}
+
+	public static StreamResponse events() {
+		return events(DEFAULT_CAPACITY);
+	}
+
+	public StreamResponse heartbeat(long interval, TimeUnit unit) {
+		this.heartbeatInterval = unit.toNanos(interval);
+		return this;
+	}
+
+	public StreamResponse offerTimeout(long timeout, TimeUnit unit) {
+		this.offerTimeout = unit.toMillis(timeout);
+		return this;
+	}
+
+	public StreamResponse onClose(Runnable listener) {
+		closeListeners.add(listener);
+		if (finished.get()) listener.run();
+		return this;
+	}
+
+	@Override
+	protected HTTPResponse headers(Headers headers) {
+		headers().clear();
+		headers().putAll(headers);
+		return this;
+	}
+
+	public boolean write(byte[] bytes, long timeout, TimeUnit unit) {
+		if (closing || finished.get()) return false;
+		try {
+			if (!queue.offer(bytes, timeout, unit)) return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		schedule();
+		return true;
+	}
+
+	public boolean write(byte[] bytes) {
+		return write(bytes, offerTimeout, TimeUnit.MILLISECONDS);
+	}
+
+	public boolean write(String text) {
+		return write(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public boolean event(String event, String id, String data) {
+		if (!isField(event)) throw new IllegalArgumentException("Event name must not contain CR or LF.");
+		if (!isField(id) || (id != null && id.indexOf('\0') != -1))
+			throw new IllegalArgumentException("Event id must not contain CR, LF or NUL.");
+		StringBuilder builder = new StringBuilder();
+		if (id != null) builder.append("id: ").append(id).append('\n');
+		if (event != null) builder.append("event: ").append(event).append('\n');
+		int start = 0;
+		String value = data == null ? "" : data;
+		while (true) {
+			int end = start;
+			while (end < value.length() && value.charAt(end) != '\n' && value.charAt(end) != '\r') end++;
+			builder.append("data: ").append(value, start, end).append('\n');
+			if (end == value.length()) break;
+			start = value.charAt(end) == '\r' && end + 1 < value.length() && value.charAt(end + 1) == '\n' ? end + 2 : end + 1;
+		}
+		return write(builder.append('\n').toString());
+	}
+
+	private static boolean isField(String value) {
+		return value == null || (value.indexOf('\n') == -1 && value.indexOf('\r') == -1);
+	}
+
+	public boolean event(String event, String data) {
+		return event(event, null, data);
+	}
+
+	public boolean event(String data) {
+		return event(null, null, data);
+	}
+
+	public boolean json(String event, Object data) throws JsonProcessingException {
+		return event(event, null, JSON.MAPPER.writeValueAsString(data));
+	}
+
+	public void close() {
+		closing = true;
+		schedule();
+	}
+
+	public boolean isOpen() {
+		return !closing && !finished.get();
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public int getQueued() {
+		return queue.size();
+	}
+
+	protected void attach(HttpExchange exchange, OutputStream outputStream) {
+		this.exchange = exchange;
+		this.outputStream = outputStream;
+		this.lastWrite = System.nanoTime();
+		if (heartbeat != null && heartbeatInterval > 0)
+			synchronized (this) {
+				heartbeatTask = HEARTBEATS.scheduleAtFixedRate(this::beat, heartbeatInterval, heartbeatInterval, TimeUnit.NANOSECONDS);
+			}
+		schedule();
+	}
+
+	protected void abort() {
+		closing = true;
+		queue.clear();
+		finish();
+	}
+
+	private void beat() {
+		if (System.nanoTime() - lastWrite >= heartbeatInterval && queue.isEmpty())
+			queue.offer(heartbeat);
+		schedule();
+	}
+
+	private void schedule() {
+		if (outputStream == null || finished.get()) return;
+		if (!draining.compareAndSet(false, true)) return;
+		try {
+			WRITERS.execute(this::drain);
+		} catch (RejectedExecutionException e) {
+			draining.set(false);
+			abort();
+		}
+	}
+
+	private void drain() {
+		OutputStream outputStream = this.outputStream;
+		try {
+			while (true) {
+				byte[] bytes;
+				boolean wrote = false;
+				while ((bytes = queue.poll()) != null) {
+					outputStream.write(bytes);
+					wrote = true;
+				}
+				if (wrote) {
+					outputStream.flush();
+					lastWrite = System.nanoTime();
+				}
+				if (closing && queue.isEmpty()) {
+					finish();
+					return;
+				}
+				draining.set(false);
+				if ((queue.isEmpty() && !closing) || !draining.compareAndSet(false, true)) return;
+			}
+		} catch (IOException e) {
+			draining.set(false);
+			abort();
+		}
+	}
+
+	private void finish() {
+		if (!finished.compareAndSet(false, true)) return;
+		synchronized (this) {
+			if (heartbeatTask != null) heartbeatTask.cancel(false);
+		}
+		try {
+			if (outputStream != null) outputStream.close();
+		} catch (IOException ignored) {
+		}
+		if (exchange != null) exchange.close();
+		for (Runnable listener : closeListeners)
+			listener.run();
+	}
+}
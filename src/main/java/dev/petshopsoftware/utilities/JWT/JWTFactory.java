@@ -1,9 +1,10 @@
 package dev.petshopsoftware.utilities.JWT;
 
-import dev.petshopsoftware.utilities.Util.RandomUtil;
+import dev.petshopsoftware.utilities.Util.RequestIDGenerator;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
@@ -12,7 +13,7 @@ public class JWTFactory {
 	private final String issuer;
 	private final String secret;
 	private final long expiration;
-	private final Mac sha256HMAC;
+	private final ThreadLocal<Mac> sha256HMAC;
 
 	public JWTFactory(String issuer, String secret, long expiration) throws InvalidKeyException, NoSuchAlgorithmException {
 		this.issuer = issuer;
@@ -20,8 +21,21 @@ public class JWTFactory {
 		this.expiration = expiration;
 
 		SecretKeySpec secret_key = new SecretKeySpec(secret.getBytes(), "HmacSHA256");
-		this.sha256HMAC = Mac.getInstance("HmacSHA256");
-		this.sha256HMAC.init(secret_key);
+		Mac mac = newMac(secret_key);
+		this.sha256HMAC = ThreadLocal.withInitial(() -> {
+			try {
+				return newMac(secret_key);
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		this.sha256HMAC.set(mac);
+	}
+
+	private static Mac newMac(SecretKeySpec key) throws InvalidKeyException, NoSuchAlgorithmException {
+		Mac mac = Mac.getInstance("HmacSHA256");
+		mac.init(key);
+		return mac;
 	}
 
 	public static JWTPayload extractJWTPayload(String jwt) {
@@ -41,7 +55,7 @@ public class JWTFactory {
 		String payload = encoder.encodeToString(payloadJson.getBytes());
 
 		byte[] data = (header + "." + payload).getBytes();
-		String signature = encoder.encodeToString(this.sha256HMAC.doFinal(data));
+		String signature = encoder.encodeToString(this.sha256HMAC.get().doFinal(data));
 
 		return header + "." + payload + "." + signature;
 	}
@@ -52,7 +66,7 @@ public class JWTFactory {
 
 	public JWTPayload makePayload(String sub) {
 		long now = System.currentTimeMillis();
-		return new JWTPayload(issuer, sub, now + expiration, now, RandomUtil.generateIdentifier());
+		return new JWTPayload(issuer, sub, now + expiration, now, RequestIDGenerator.generate());
 	}
 
 	public boolean validateJWTSignature(String jwt) {
@@ -65,7 +79,7 @@ public class JWTFactory {
 
 		Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
 		byte[] data = (header + "." + payload).getBytes();
-		String recomputedSignature = encoder.encodeToString(sha256HMAC.doFinal(data));
+		String recomputedSignature = encoder.encodeToString(sha256HMAC.get().doFinal(data));
 		return signature.equals(recomputedSignature);
 	}
 
@@ -94,6 +108,6 @@ public class JWTFactory {
 	}
 
 	public Mac getSha256HMAC() {
-		return sha256HMAC;
+		return sha256HMAC.get();
 	}
 }
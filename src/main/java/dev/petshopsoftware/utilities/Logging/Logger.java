@@ -176,6 +176,12 @@ public class Logger {
 		}
 	}
 
+	public boolean isLoggable(Level level) {
+		if (level.includes(this.level) || !handlers.isEmpty() || !GLOBAL_HANDLERS.isEmpty()) return true;
+		if (WRITER != null && !EXECUTOR_SERVICE.isShutdown()) return true;
+		return history.size() < HISTORY_LENGTH || GLOBAL_HISTORY.size() < HISTORY_LENGTH;
+	}
+
 	public void log(Level level, String message, String format) {
 		log(message(level, message, format));
 	}
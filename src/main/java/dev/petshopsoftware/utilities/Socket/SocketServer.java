@@ -4,16 +4,18 @@ import dev.petshopsoftware.utilities.Logging.LogMessage;
 import dev.petshopsoftware.utilities.Logging.Logger;
 import dev.petshopsoftware.utilities.Util.ParsingMode;
 import dev.petshopsoftware.utilities.Util.ReflectionUtil;
+import dev.petshopsoftware.utilities.Util.Types.Pair;
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.ClientHandshake;
 import org.java_websocket.server.WebSocketServer;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class SocketServer extends WebSocketServer {
@@ -25,11 +27,32 @@ public abstract class SocketServer extends WebSocketServer {
 	public final Map<String, SocketClient> clientsByUserID = new ConcurrentHashMap<>();
 	public final Map<WebSocket, SocketClient> clientsBySocket = new ConcurrentHashMap<>();
 
+	private final Map<String, Pair<SocketChannel, MethodHandle>> channels = new HashMap<>();
+
 	protected SocketServer(String name, int port) {
 		super(new InetSocketAddress(port));
 		this.name = name;
 		this.setReuseAddr(true);
 		this.logger = new Logger("socket-" + name);
+		linkChannels();
+	}
+
+	protected void linkChannels() {
+		MethodType invokedType = MethodType.methodType(SocketResponse.class, WebSocket.class, Object.class);
+		for (Method method : ReflectionUtil.getMethodsAnnotatedWith(getClass(), SocketChannel.class)) {
+			SocketChannel channel = method.getAnnotation(SocketChannel.class);
+			String key = channel.value().toLowerCase(Locale.ROOT);
+			if (channels.containsKey(key)) continue;
+			try {
+				method.setAccessible(true);
+				MethodHandle handle = MethodHandles.lookup().unreflect(method);
+				if (!Modifier.isStatic(method.getModifiers())) handle = handle.bindTo(this);
+				handle = handle.asType(invokedType);
+				channels.put(key, new Pair<>(channel, handle));
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				logger.error(LogMessage.fromException(new RuntimeException("Could not link socket channel " + channel.value() + ".", e)));
+			}
+		}
 	}
 
 	public static void stopAll() {
@@ -102,18 +125,14 @@ public abstract class SocketServer extends WebSocketServer {
 			return;
 		}
 
-		Method selectedMethod = ReflectionUtil.getMethodsAnnotatedWith(getClass(), SocketChannel.class)
-				.stream()
-				.filter(method -> method.getAnnotation(SocketChannel.class).value().equalsIgnoreCase(channel))
-				.findFirst()
-				.orElse(null);
+		Pair<SocketChannel, MethodHandle> selected = channels.get(channel.toLowerCase(Locale.ROOT));
 
-		if (selectedMethod == null) {
+		if (selected == null) {
 			send(webSocket, SocketResponse.NOT_FOUND.channel("ERROR"));
 			return;
 		}
 
-		SocketChannel selectedChannel = Objects.requireNonNull(selectedMethod).getAnnotation(SocketChannel.class);
+		SocketChannel selectedChannel = selected.getV1();
 
 		if (!isAuthenticated(webSocket, selectedChannel)) {
 			send(webSocket, SocketResponse.UNAUTHORIZED.channel("ERROR"));
@@ -122,8 +141,8 @@ public abstract class SocketServer extends WebSocketServer {
 
 		SocketResponse socketResponse;
 		try {
-			socketResponse = (SocketResponse) selectedMethod.invoke(this, webSocket, selectedChannel.parsingMode().parse.apply(content));
-		} catch (Exception e) {
+			socketResponse = (SocketResponse) selected.getV2().invokeExact(webSocket, selectedChannel.parsingMode().parse.apply(content));
+		} catch (Throwable e) {
 			send(webSocket, SocketResponse.INTERNAL_ERROR.channel("ERROR"));
 			logger.error(LogMessage.fromException(new RuntimeException("An internal error occurred.", e)));
 			return;
@@ -0,0 +1,35 @@
+package dev.petshopsoftware.utilities.Util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class RequestIDGenerator {
+	public static final int MAX_LENGTH = 128;
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	public static String generate() {
+		char[] chars = new char[32];
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		write(chars, 0, System.currentTimeMillis(), 12);
+		write(chars, 12, random.nextLong(), 16);
+		write(chars, 28, random.nextInt(), 4);
+		return new String(chars);
+	}
+
+	public static boolean isValid(String id) {
+		if (id == null || id.isEmpty() || id.length() > MAX_LENGTH) return false;
+		for (int i = 0; i < id.length(); i++) {
+			char c = id.charAt(i);
+			if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) continue;
+			if (c == '-' || c == '_' || c == '.' || c == ':') continue;
+			return false;
+		}
+		return true;
+	}
+
+	private static void write(char[] chars, int offset, long value, int digits) {
+		for (int i = offset + digits - 1; i >= offset; i--) {
+			chars[i] = HEX[(int) (value & 0xF)];
+			value >>>= 4;
+		}
+	}
+}
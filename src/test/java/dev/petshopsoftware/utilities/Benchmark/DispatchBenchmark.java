@@ -0,0 +1,69 @@
+package dev.petshopsoftware.utilities.Benchmark;
+
+import dev.petshopsoftware.utilities.HTTP.Server.HTTPData;
+import dev.petshopsoftware.utilities.HTTP.Server.HTTPResponse;
+import dev.petshopsoftware.utilities.HTTP.Server.RouteInvoker;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+/**
+ * Compares reflective {@link Method#invoke} route dispatch with the pre-linked {@link RouteInvoker}.
+ * Run with {@code java -cp target/classes:target/test-classes:<deps> dev.petshopsoftware.utilities.Benchmark.DispatchBenchmark [iterations]}.
+ */
+public class DispatchBenchmark {
+	private static final HTTPResponse RESPONSE = new HTTPResponse(200, "OK");
+	private static final int ROUNDS = 5;
+
+	public static HTTPResponse ping(HTTPData data) {
+		return RESPONSE;
+	}
+
+	public static void main(String[] args) throws Exception {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+		Method method = DispatchBenchmark.class.getMethod("ping", HTTPData.class);
+		RouteInvoker invoker = RouteInvoker.of(method);
+		Method privateMethod = DispatchBenchmark.class.getDeclaredMethod("pong", HTTPData.class);
+		privateMethod.setAccessible(true);
+		RouteInvoker privateInvoker = RouteInvoker.of(privateMethod);
+
+		for (int round = 0; round < ROUNDS; round++) {
+			boolean warmup = round < ROUNDS - 1;
+			report(warmup, "Method.invoke", iterations, () -> {
+				int sink = 0;
+				for (int i = 0; i < iterations; i++)
+					sink += ((HTTPResponse) method.invoke(null, (HTTPData) null)).hashCode() & 1;
+				return sink;
+			});
+			report(warmup, "RouteInvoker (lambda)", iterations, () -> {
+				int sink = 0;
+				for (int i = 0; i < iterations; i++)
+					sink += invoker.invoke(null).hashCode() & 1;
+				return sink;
+			});
+			report(warmup, "RouteInvoker (handle)", iterations, () -> {
+				int sink = 0;
+				for (int i = 0; i < iterations; i++)
+					sink += privateInvoker.invoke(null).hashCode() & 1;
+				return sink;
+			});
+		}
+	}
+
+	private static HTTPResponse pong(HTTPData data) {
+		return RESPONSE;
+	}
+
+	private static void report(boolean warmup, String name, int iterations, Task task) throws Exception {
+		long start = System.nanoTime();
+		int sink = task.run();
+		long elapsed = System.nanoTime() - start;
+		if (!warmup)
+			System.out.println(String.format(Locale.ROOT, "%-24s %8.2f ns/op (%d)", name, (double) elapsed / iterations, sink));
+	}
+
+	@FunctionalInterface
+	interface Task {
+		int run() throws Exception;
+	}
+}
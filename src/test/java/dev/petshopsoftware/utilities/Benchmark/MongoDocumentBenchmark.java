@@ -0,0 +1,104 @@
+package dev.petshopsoftware.utilities.Benchmark;
+
+import dev.petshopsoftware.utilities.Database.Mongo.DocumentSnapshot;
+import dev.petshopsoftware.utilities.Database.Mongo.IMongoDocument;
+import dev.petshopsoftware.utilities.Database.Mongo.MongoInfo;
+import org.bson.Document;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the JSON text round-trip that IMongoDocument used to take with the token-based codec and cached snapshot replay.
+ * Run with {@code java -cp target/classes:target/test-classes:<deps> dev.petshopsoftware.utilities.Benchmark.MongoDocumentBenchmark [iterations]}.
+ */
+public class MongoDocumentBenchmark {
+	private static final int ROUNDS = 5;
+
+	public static void main(String[] args) throws Exception {
+		int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+		Pet pet = Pet.sample();
+		Document document = pet.toDocument();
+		DocumentSnapshot snapshot = DocumentSnapshot.of(document);
+		if (!Document.parse(pet.toJSON().toString()).toJson().equals(document.toJson()))
+			throw new IllegalStateException("Codec output differs from the text path.");
+
+		for (int round = 0; round < ROUNDS; round++) {
+			boolean warmup = round < ROUNDS - 1;
+			report(warmup, "encode (text)", iterations, () -> {
+				int sink = 0;
+				for (int i = 0; i < iterations; i++)
+					sink += Document.parse(pet.toJSON().toString()).size();
+				return sink;
+			});
+			report(warmup, "encode (codec)", iterations, () -> {
+				int sink = 0;
+				for (int i = 0; i < iterations; i++)
+					sink += pet.toDocument().size();
+				return sink;
+			});
+			report(warmup, "decode (text)", iterations, () -> {
+				int sink = 0;
+				for (int i = 0; i < iterations; i++)
+					sink += new Pet().<Pet>fromString(document.toJson()).age;
+				return sink;
+			});
+			report(warmup, "decode (codec)", iterations, () -> {
+				int sink = 0;
+				for (int i = 0; i < iterations; i++)
+					sink += new Pet().<Pet>fromDocument(document).age;
+				return sink;
+			});
+			report(warmup, "cached load (snapshot)", iterations, () -> {
+				int sink = 0;
+				for (int i = 0; i < iterations; i++)
+					sink += snapshot.<Pet>readInto(new Pet()).age;
+				return sink;
+			});
+		}
+	}
+
+	private static void report(boolean warmup, String name, int iterations, Task task) throws Exception {
+		long start = System.nanoTime();
+		int sink = task.run();
+		long elapsed = System.nanoTime() - start;
+		if (!warmup)
+			System.out.println(String.format(Locale.ROOT, "%-24s %10.1f ns/op (%d)", name, (double) elapsed / iterations, sink));
+	}
+
+	@FunctionalInterface
+	interface Task {
+		int run() throws Exception;
+	}
+
+	@MongoInfo(collection = "pets")
+	public static class Pet implements IMongoDocument {
+		public String id;
+		public String name;
+		public int age;
+		public long born;
+		public double weight;
+		public boolean vaccinated;
+		public List<String> tags = new ArrayList<>();
+		public Map<String, Object> owner = new LinkedHashMap<>();
+
+		static Pet sample() {
+			Pet pet = new Pet();
+			pet.id = "65f1c0ffee0000000000beef";
+			pet.name = "Biscuit";
+			pet.age = 4;
+			pet.born = 1_600_000_000_000L;
+			pet.weight = 12.75;
+			pet.vaccinated = true;
+			for (int i = 0; i < 8; i++)
+				pet.tags.add("tag-" + i);
+			pet.owner.put("name", "Sam");
+			pet.owner.put("phone", "+1-555-0100");
+			pet.owner.put("visits", 17);
+			return pet;
+		}
+	}
+}